@@ -55,6 +55,9 @@ public abstract class FlatDefaultsAddon
 	/**
 	 * Allows modifying UI defaults after loading UI defaults.
 	 * The default implementation does nothing.
+	 * <p>
+	 * Note: This method may be invoked on a background thread
+	 * (see {@link FlatLaf#prepare(LookAndFeel)}).
 	 */
 	public void afterDefaultsLoading( LookAndFeel laf, UIDefaults defaults ) {
 	}
@@ -30,19 +30,29 @@ import java.awt.image.ImageProducer;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.io.File;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
 import java.net.URL;
+import java.util.AbstractCollection;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
+import java.util.Objects;
 import java.util.Properties;
 import java.util.ResourceBundle;
 import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.IntUnaryOperator;
@@ -112,13 +122,21 @@ public abstract class FlatLaf
 	private boolean subMenuUsabilityHelperInstalled;
 
 	private Consumer<UIDefaults> postInitialization;
-	private List<Function<Object, Object>> uiDefaultsGetters;
+	private volatile PreparedDefaults preparedDefaults;
+	private static final ThreadLocal<DefaultsInputs> preparingInputs = new ThreadLocal<>();
+	private volatile List<Function<Object, Object>> uiDefaultsGetters;
 
 	private static String preferredFontFamily;
 	private static String preferredLightFontFamily;
 	private static String preferredSemiboldFontFamily;
 	private static String preferredMonospacedFontFamily;
 
+	// source image --> (filter --> disabled image)
+	//   (disabled images are referenced weakly because they reference their source image,
+	//   which would prevent removing entries from the weak hash map)
+	private static final Map<Image, Map<ImageFilter, WeakReference<Image>>> disabledImageCache = new WeakHashMap<>();
+	private static final GrayFilter[] fallbackGrayFilters = new GrayFilter[2];
+
 	/**
 	 * Sets the application look and feel to the given LaF
 	 * using {@link UIManager#setLookAndFeel(javax.swing.LookAndFeel)}.
@@ -143,6 +161,73 @@ public abstract class FlatLaf
 		return setup( newLookAndFeel );
 	}
 
+	/**
+	 * Creates the UI defaults of the given look and feel on a background thread.
+	 * A following {@link #setup(LookAndFeel)} (or {@link UIManager#setLookAndFeel(LookAndFeel)})
+	 * with the same look and feel instance then uses the prepared UI defaults,
+	 * instead of creating them on the AWT thread.
+	 * This makes switching themes (e.g. in a theme chooser) faster.
+	 * <p>
+	 * Sample:
+	 * <pre>{@code
+	 * FlatLaf.prepare( new FlatDarkLaf() ).thenAccept( laf -> {
+	 *     EventQueue.invokeLater( () -> {
+	 *         FlatLaf.setup( laf );
+	 *         FlatLaf.updateUI();
+	 *     } );
+	 * } );
+	 * }</pre>
+	 * <p>
+	 * Prepared UI defaults are used only once. They are not used if something that
+	 * affects UI defaults has changed in the meantime (e.g. extra defaults,
+	 * custom defaults sources, preferred font families, default locale or user scale factor).
+	 * <p>
+	 * Extra defaults, custom defaults sources, system color getter and preferred font families
+	 * are captured when this method is invoked. On the background thread,
+	 * the getters for these values (e.g. {@link #getExtraDefaults()}) return the captured values.
+	 * So they may be changed on the calling thread while the UI defaults are prepared.
+	 * <p>
+	 * Note that {@link FlatDefaultsAddon#afterDefaultsLoading(LookAndFeel, UIDefaults)}
+	 * of addons and {@link #getAdditionalDefaults()} of the look and feel
+	 * (and applying IntelliJ theme defaults) are invoked on the background thread,
+	 * not on the AWT thread. Implementations must not access Swing components.
+	 * <p>
+	 * If the given look and feel is not a FlatLaf, the returned future is already completed.
+	 *
+	 * @return a future that is completed with the given look and feel when the UI defaults are prepared
+	 * @since 3.5
+	 */
+	public static CompletableFuture<LookAndFeel> prepare( LookAndFeel newLookAndFeel ) {
+		if( !(newLookAndFeel instanceof FlatLaf) )
+			return CompletableFuture.completedFuture( newLookAndFeel );
+
+		FlatLaf laf = (FlatLaf) newLookAndFeel;
+		CompletableFuture<LookAndFeel> future = new CompletableFuture<>();
+
+		// capture inputs on calling thread (usually the AWT thread), which also modifies them
+		DefaultsInputs inputs = new DefaultsInputs( laf );
+
+		// use own thread (instead of common fork-join pool) because
+		// the thread context class loader is used to load addons
+		Thread thread = new Thread( () -> {
+			// use captured inputs on this thread (see getters of inputs)
+			preparingInputs.set( inputs );
+			try {
+				UIDefaults defaults = laf.createDefaults();
+				laf.preparedDefaults = new PreparedDefaults( defaults, inputs );
+				future.complete( newLookAndFeel );
+			} catch( Throwable ex ) {
+				LoggingFacade.INSTANCE.logSevere( "FlatLaf: Failed to prepare look and feel '" + laf.getClass().getName() + "'.", ex );
+				future.completeExceptionally( ex );
+			} finally {
+				preparingInputs.remove();
+			}
+		}, "FlatLaf prepare " + laf.getName() );
+		thread.setDaemon( true );
+		thread.start();
+		return future;
+	}
+
 	/**
 	 * Adds the given look and feel to the set of available look and feels.
 	 * <p>
@@ -223,20 +308,61 @@ public abstract class FlatLaf
 			Object grayFilter = UIManager.get( "Component.grayFilter" );
 			ImageFilter filter = (grayFilter instanceof ImageFilter)
 				? (ImageFilter) grayFilter
-				: GrayFilter.createDisabledIconFilter( isDark() ); // fallback
-
-			Function<Image, Image> mapper = img -> {
-				ImageProducer producer = new FilteredImageSource( img.getSource(), filter );
-				return Toolkit.getDefaultToolkit().createImage( producer );
-			};
+				: getFallbackGrayFilter( isDark() );
 
 			Image image = ((ImageIcon)icon).getImage();
-			return new ImageIconUIResource( MultiResolutionImageSupport.map( image, mapper ) );
+			return new ImageIconUIResource( getDisabledImage( image, filter ) );
 		}
 
 		return null;
 	}
 
+	/**
+	 * Returns a filtered copy of the given image.
+	 * Filtered images are cached (weak-keyed by source image and filter)
+	 * so that multiple disabled icons using the same image share the same filtered image.
+	 * Filtered images are kept in the cache as long as they are used.
+	 */
+	private static Image getDisabledImage( Image image, ImageFilter filter ) {
+		synchronized( disabledImageCache ) {
+			Map<ImageFilter, WeakReference<Image>> filterMap = disabledImageCache.get( image );
+			WeakReference<Image> ref = (filterMap != null) ? filterMap.get( filter ) : null;
+			Image disabledImage = (ref != null) ? ref.get() : null;
+			if( disabledImage != null )
+				return disabledImage;
+		}
+
+		Function<Image, Image> mapper = img -> {
+			ImageProducer producer = new FilteredImageSource( img.getSource(), filter );
+			return Toolkit.getDefaultToolkit().createImage( producer );
+		};
+		Image disabledImage = MultiResolutionImageSupport.map( image, mapper );
+
+		synchronized( disabledImageCache ) {
+			disabledImageCache.computeIfAbsent( image, k -> new WeakHashMap<>() )
+				.put( filter, new WeakReference<>( disabledImage ) );
+		}
+		return disabledImage;
+	}
+
+	/**
+	 * Returns the gray filter used for disabled icons if UI defaults
+	 * do not contain a {@code Component.grayFilter}.
+	 * The returned filters are shared, so that they can be used as cache keys.
+	 *
+	 * @param dark whether the filter is used for a dark theme
+	 * @since 3.5
+	 */
+	public static GrayFilter getFallbackGrayFilter( boolean dark ) {
+		int index = dark ? 1 : 0;
+		synchronized( fallbackGrayFilters ) {
+			GrayFilter filter = fallbackGrayFilters[index];
+			if( filter == null )
+				fallbackGrayFilters[index] = filter = GrayFilter.createDisabledIconFilter( dark );
+			return filter;
+		}
+	}
+
 	@Override
 	public void initialize() {
 		// do not initialize if this is not the current look and feel
@@ -404,6 +530,27 @@ public abstract class FlatLaf
 
 	@Override
 	public UIDefaults getDefaults() {
+		// use prepared defaults (see prepare())
+		UIDefaults defaults = null;
+		PreparedDefaults preparedDefaults = this.preparedDefaults;
+		if( preparedDefaults != null ) {
+			this.preparedDefaults = null;
+			if( preparedDefaults.inputs.equals( new DefaultsInputs( this ) ) )
+				defaults = preparedDefaults.defaults;
+		}
+
+		if( defaults == null )
+			defaults = createDefaults();
+
+		if( postInitialization != null ) {
+			postInitialization.accept( defaults );
+			postInitialization = null;
+		}
+
+		return defaults;
+	}
+
+	private UIDefaults createDefaults() {
 		// use larger initial capacity to avoid resizing UI defaults hash table
 		// (from 610 to 1221 to 2443 entries) and to save some memory
 		UIDefaults defaults = new FlatUIDefaults( 1500, 0.75f );
@@ -501,14 +648,13 @@ public abstract class FlatLaf
 			return UIScale.getUserScaleFactor();
 		} );
 
-		if( postInitialization != null ) {
-			postInitialization.accept( defaults );
-			postInitialization = null;
-		}
-
 		return defaults;
 	}
 
+	/**
+	 * Applies additional defaults (e.g. from IntelliJ themes).
+	 * May be invoked on a background thread (see {@link #prepare(LookAndFeel)}).
+	 */
 	void applyAdditionalDefaults( UIDefaults defaults ) {
 	}
 
@@ -516,7 +662,14 @@ public abstract class FlatLaf
 		return null;
 	}
 
+	/**
+	 * Returns additional defaults, which are loaded after the properties files.
+	 * May be invoked on a background thread (see {@link #prepare(LookAndFeel)}).
+	 */
 	protected Properties getAdditionalDefaults() {
+		// use getters, which return captured values if invoked on background thread
+		Map<String, String> globalExtraDefaults = getGlobalExtraDefaults();
+		Map<String, String> extraDefaults = getExtraDefaults();
 		if( globalExtraDefaults == null && extraDefaults == null )
 			return null;
 
@@ -634,6 +787,7 @@ public abstract class FlatLaf
 			uiFont = createCompositeFont( Font.SANS_SERIF, Font.PLAIN, 12 );
 
 		// use preferred font family (if specified)
+		String preferredFontFamily = getPreferredFontFamily();
 		if( preferredFontFamily != null ) {
 			FontUIResource preferredFont = createCompositeFont( preferredFontFamily, uiFont.getStyle(), uiFont.getSize() );
 			if( !ActiveFont.isFallbackFont( preferredFont ) || ActiveFont.isDialogFamily( preferredFontFamily ) )
@@ -787,7 +941,8 @@ public abstract class FlatLaf
 	}
 
 	static List<Object> getCustomDefaultsSources() {
-		return customDefaultsSources;
+		DefaultsInputs inputs = preparingInputs.get();
+		return (inputs != null) ? inputs.customDefaultsSources : customDefaultsSources;
 	}
 
 	/**
@@ -902,7 +1057,8 @@ public abstract class FlatLaf
 	 * @since 2
 	 */
 	public static Map<String, String> getGlobalExtraDefaults() {
-		return globalExtraDefaults;
+		DefaultsInputs inputs = preparingInputs.get();
+		return (inputs != null) ? inputs.globalExtraDefaults : globalExtraDefaults;
 	}
 
 	/**
@@ -934,7 +1090,8 @@ public abstract class FlatLaf
 	 * @since 2
 	 */
 	public Map<String, String> getExtraDefaults() {
-		return extraDefaults;
+		DefaultsInputs inputs = preparingInputs.get();
+		return (inputs != null && inputs.laf == this) ? inputs.extraDefaults : extraDefaults;
 	}
 
 	/**
@@ -998,7 +1155,8 @@ public abstract class FlatLaf
 	 * @since 3
 	 */
 	public static Function<String, Color> getSystemColorGetter() {
-		return systemColorGetter;
+		DefaultsInputs inputs = preparingInputs.get();
+		return (inputs != null) ? inputs.systemColorGetter : systemColorGetter;
 	}
 
 	/**
@@ -1169,6 +1327,30 @@ public abstract class FlatLaf
 		MnemonicHandler.showMnemonics( false, null );
 	}
 
+	/**
+	 * Registers a component that may display mnemonics, so that it is repainted
+	 * when mnemonics are shown or hidden (e.g. when pressing the Alt key).
+	 * The component is weakly referenced.
+	 * <p>
+	 * FlatLaf UI delegates invoke this method when installed.
+	 * Only necessary for custom UI delegates that paint mnemonics
+	 * depending on {@link #isShowMnemonics()}.
+	 *
+	 * @since 3.5
+	 */
+	public static void registerMnemonicComponent( Component c ) {
+		MnemonicHandler.registerMnemonicComponent( c );
+	}
+
+	/**
+	 * Unregisters a component registered with {@link #registerMnemonicComponent(Component)}.
+	 *
+	 * @since 3.5
+	 */
+	public static void unregisterMnemonicComponent( Component c ) {
+		MnemonicHandler.unregisterMnemonicComponent( c );
+	}
+
 	// do not allow overriding to avoid issues in FlatUIUtils.createSharedUI()
 	@Override
 	public final boolean equals( Object obj ) {
@@ -1196,11 +1378,14 @@ public abstract class FlatLaf
 	 * @since 1.6
 	 */
 	public void registerUIDefaultsGetter( Function<Object, Object> uiDefaultsGetter ) {
-		if( uiDefaultsGetters == null )
-			uiDefaultsGetters = new ArrayList<>();
+		// copy-on-write to allow reading UI defaults from other threads without locking
+		List<Function<Object, Object>> getters = (uiDefaultsGetters != null)
+			? new ArrayList<>( uiDefaultsGetters )
+			: new ArrayList<>();
 
-		uiDefaultsGetters.remove( uiDefaultsGetter );
-		uiDefaultsGetters.add( uiDefaultsGetter );
+		getters.remove( uiDefaultsGetter );
+		getters.add( uiDefaultsGetter );
+		uiDefaultsGetters = getters;
 
 		// disable shared UIs
 		FlatUIUtils.setUseSharedUIs( false );
@@ -1217,10 +1402,13 @@ public abstract class FlatLaf
 		if( uiDefaultsGetters == null )
 			return;
 
-		uiDefaultsGetters.remove( uiDefaultsGetter );
+		// copy-on-write to allow reading UI defaults from other threads without locking
+		List<Function<Object, Object>> getters = new ArrayList<>( uiDefaultsGetters );
+		getters.remove( uiDefaultsGetter );
+		uiDefaultsGetters = getters;
 
 		// enable shared UIs
-		if( uiDefaultsGetters.isEmpty() )
+		if( getters.isEmpty() )
 			FlatUIUtils.setUseSharedUIs( true );
 	}
 
@@ -1310,7 +1498,8 @@ public abstract class FlatLaf
 	 * @since 3
 	 */
 	public static String getPreferredFontFamily() {
-		return preferredFontFamily;
+		DefaultsInputs inputs = preparingInputs.get();
+		return (inputs != null) ? inputs.preferredFontFamily : preferredFontFamily;
 	}
 
 	/**
@@ -1331,7 +1520,8 @@ public abstract class FlatLaf
 	 * @since 3
 	 */
 	public static String getPreferredLightFontFamily() {
-		return preferredLightFontFamily;
+		DefaultsInputs inputs = preparingInputs.get();
+		return (inputs != null) ? inputs.preferredLightFontFamily : preferredLightFontFamily;
 	}
 
 	/**
@@ -1352,7 +1542,8 @@ public abstract class FlatLaf
 	 * @since 3
 	 */
 	public static String getPreferredSemiboldFontFamily() {
-		return preferredSemiboldFontFamily;
+		DefaultsInputs inputs = preparingInputs.get();
+		return (inputs != null) ? inputs.preferredSemiboldFontFamily : preferredSemiboldFontFamily;
 	}
 
 	/**
@@ -1373,7 +1564,8 @@ public abstract class FlatLaf
 	 * @since 3
 	 */
 	public static String getPreferredMonospacedFontFamily() {
-		return preferredMonospacedFontFamily;
+		DefaultsInputs inputs = preparingInputs.get();
+		return (inputs != null) ? inputs.preferredMonospacedFontFamily : preferredMonospacedFontFamily;
 	}
 
 	/**
@@ -1390,11 +1582,30 @@ public abstract class FlatLaf
 
 	//---- class FlatUIDefaults -----------------------------------------------
 
-	private class FlatUIDefaults
+	/**
+	 * UI defaults that use a lock-free read cache for lookups with default locale.
+	 * <p>
+	 * {@link UIDefaults} extends {@link java.util.Hashtable}, which synchronizes all accesses.
+	 * Resolved values (lazy values already created, resource bundle strings and
+	 * file chooser texts from Metal) are stored in a concurrent map,
+	 * which is replaced whenever the defaults are modified.
+	 * Active values are stored as is and created on each access.
+	 * Values of keys that were put as active values are not cached
+	 * because {@link UIDefaults} creates them on each access.
+	 * <p>
+	 * The read cache is also replaced if the defaults are modified
+	 * via the views returned by {@link #keySet()}, {@link #values()} or {@link #entrySet()}.
+	 */
+	class FlatUIDefaults
 		extends UIDefaults
 	{
+		private static final int READ_CACHE_MAX_SIZE = 10_000;
+
 		private UIDefaults metalDefaults;
 
+		private volatile Map<Object, Object> readCache = new ConcurrentHashMap<>();
+		private final Set<Object> activeValueKeys = ConcurrentHashMap.newKeySet();
+
 		FlatUIDefaults( int initialCapacity, float loadFactor ) {
 			super( initialCapacity, loadFactor );
 		}
@@ -1410,7 +1621,28 @@ public abstract class FlatLaf
 			if( value != null )
 				return (value != NULL_VALUE) ? value : null;
 
-			value = super.get( key, l );
+			if( l != null || key == null || activeValueKeys.contains( key ) )
+				return resolveActiveValue( getUncached( key, l ) );
+
+			// use local variable for cache because it may be replaced on another thread
+			Map<Object, Object> readCache = this.readCache;
+			value = readCache.get( key );
+			if( value == null ) {
+				value = getUncached( key, null );
+				if( value == null )
+					value = NULL_VALUE;
+				if( readCache.size() < READ_CACHE_MAX_SIZE )
+					readCache.put( key, value );
+			}
+
+			return (value != NULL_VALUE) ? resolveActiveValue( value ) : null;
+		}
+
+		/**
+		 * Returns the value for the given key without resolving active values.
+		 */
+		private Object getUncached( Object key, Locale l ) {
+			Object value = super.get( key, l );
 			if( value != null )
 				return value;
 
@@ -1420,6 +1652,233 @@ public abstract class FlatLaf
 				: null;
 		}
 
+		private Object resolveActiveValue( Object value ) {
+			// UIDefaults.get() returns active values, which were created by lazy values,
+			// as is on first access (see UIDefaultsLoader.LazyParsedValue)
+			return (value instanceof ActiveValue)
+				? ((ActiveValue)value).createValue( this )
+				: value;
+		}
+
+		/**
+		 * Replaces the read cache. Invoked before modifying the defaults,
+		 * so that property change listeners (invoked from super.put())
+		 * get the new value, and again after modifying the defaults,
+		 * to remove values that were cached by other threads in the meantime.
+		 */
+		private void invalidateReadCache() {
+			readCache = new ConcurrentHashMap<>();
+		}
+
+		/**
+		 * Remembers whether the given value, which is stored for the given key,
+		 * is an active value. Returns the given value.
+		 */
+		private Object trackActiveValue( Object key, Object value ) {
+			if( value instanceof ActiveValue )
+				activeValueKeys.add( key );
+			else
+				activeValueKeys.remove( key );
+			return value;
+		}
+
+		/**
+		 * Remembers the given key if the given value is an active value.
+		 * Used if it is not known whether the value is actually stored.
+		 */
+		private void addActiveValueKey( Object key, Object value ) {
+			if( value instanceof ActiveValue )
+				activeValueKeys.add( key );
+		}
+
+		@Override
+		public Object put( Object key, Object value ) {
+			trackActiveValue( key, value );
+			invalidateReadCache();
+			try {
+				return super.put( key, value );
+			} finally {
+				invalidateReadCache();
+			}
+		}
+
+		@Override
+		public synchronized void putAll( Map<? extends Object, ? extends Object> t ) {
+			invalidateReadCache();
+			try {
+				super.putAll( t );
+			} finally {
+				invalidateReadCache();
+			}
+		}
+
+		@Override
+		public void putDefaults( Object[] keyValueList ) {
+			for( int i = 0; i < keyValueList.length - 1; i += 2 )
+				trackActiveValue( keyValueList[i], keyValueList[i + 1] );
+			invalidateReadCache();
+			try {
+				super.putDefaults( keyValueList );
+			} finally {
+				invalidateReadCache();
+			}
+		}
+
+		@Override
+		public synchronized Object putIfAbsent( Object key, Object value ) {
+			addActiveValueKey( key, value );
+			invalidateReadCache();
+			try {
+				return super.putIfAbsent( key, value );
+			} finally {
+				invalidateReadCache();
+			}
+		}
+
+		@Override
+		public synchronized Object remove( Object key ) {
+			invalidateReadCache();
+			try {
+				return super.remove( key );
+			} finally {
+				activeValueKeys.remove( key );
+				invalidateReadCache();
+			}
+		}
+
+		@Override
+		public synchronized boolean remove( Object key, Object value ) {
+			invalidateReadCache();
+			try {
+				boolean removed = super.remove( key, value );
+				if( removed )
+					activeValueKeys.remove( key );
+				return removed;
+			} finally {
+				invalidateReadCache();
+			}
+		}
+
+		@Override
+		public synchronized Object replace( Object key, Object value ) {
+			trackActiveValue( key, value );
+			invalidateReadCache();
+			try {
+				return super.replace( key, value );
+			} finally {
+				invalidateReadCache();
+			}
+		}
+
+		@Override
+		public synchronized boolean replace( Object key, Object oldValue, Object newValue ) {
+			addActiveValueKey( key, newValue );
+			invalidateReadCache();
+			try {
+				return super.replace( key, oldValue, newValue );
+			} finally {
+				invalidateReadCache();
+			}
+		}
+
+		@Override
+		public synchronized void replaceAll( BiFunction<? super Object, ? super Object, ? extends Object> function ) {
+			invalidateReadCache();
+			try {
+				super.replaceAll( (k, v) -> trackActiveValue( k, function.apply( k, v ) ) );
+			} finally {
+				invalidateReadCache();
+			}
+		}
+
+		@Override
+		public synchronized Object computeIfAbsent( Object key, Function<? super Object, ? extends Object> mappingFunction ) {
+			invalidateReadCache();
+			try {
+				return super.computeIfAbsent( key, k -> trackActiveValue( k, mappingFunction.apply( k ) ) );
+			} finally {
+				invalidateReadCache();
+			}
+		}
+
+		@Override
+		public synchronized Object computeIfPresent( Object key, BiFunction<? super Object, ? super Object, ? extends Object> remappingFunction ) {
+			invalidateReadCache();
+			try {
+				return super.computeIfPresent( key, (k, v) -> trackActiveValue( k, remappingFunction.apply( k, v ) ) );
+			} finally {
+				invalidateReadCache();
+			}
+		}
+
+		@Override
+		public synchronized Object compute( Object key, BiFunction<? super Object, ? super Object, ? extends Object> remappingFunction ) {
+			invalidateReadCache();
+			try {
+				return super.compute( key, (k, v) -> trackActiveValue( k, remappingFunction.apply( k, v ) ) );
+			} finally {
+				invalidateReadCache();
+			}
+		}
+
+		@Override
+		public synchronized Object merge( Object key, Object value, BiFunction<? super Object, ? super Object, ? extends Object> remappingFunction ) {
+			addActiveValueKey( key, value );
+			invalidateReadCache();
+			try {
+				return super.merge( key, value, (v1, v2) -> trackActiveValue( key, remappingFunction.apply( v1, v2 ) ) );
+			} finally {
+				invalidateReadCache();
+			}
+		}
+
+		@Override
+		public synchronized void clear() {
+			invalidateReadCache();
+			try {
+				super.clear();
+				activeValueKeys.clear();
+			} finally {
+				invalidateReadCache();
+			}
+		}
+
+		@Override
+		public Set<Object> keySet() {
+			return new CacheInvalidatingSet<>( super.keySet(), false );
+		}
+
+		@Override
+		public Collection<Object> values() {
+			return new CacheInvalidatingCollection<>( super.values(), false );
+		}
+
+		@Override
+		public Set<Map.Entry<Object, Object>> entrySet() {
+			return new CacheInvalidatingSet<>( super.entrySet(), true );
+		}
+
+		@Override
+		public void setDefaultLocale( Locale l ) {
+			invalidateReadCache();
+			super.setDefaultLocale( l );
+			invalidateReadCache();
+		}
+
+		@Override
+		public synchronized void addResourceBundle( String bundleName ) {
+			invalidateReadCache();
+			super.addResourceBundle( bundleName );
+			invalidateReadCache();
+		}
+
+		@Override
+		public synchronized void removeResourceBundle( String bundleName ) {
+			invalidateReadCache();
+			super.removeResourceBundle( bundleName );
+			invalidateReadCache();
+		}
+
 		private Object getFromUIDefaultsGetters( Object key ) {
 			// use local variable for getters to avoid potential multi-threading issues
 			List<Function<Object, Object>> uiDefaultsGetters = FlatLaf.this.uiDefaultsGetters;
@@ -1450,6 +1909,148 @@ public abstract class FlatLaf
 
 			return metalDefaults.get( key, l );
 		}
+
+		//---- class CacheInvalidatingCollection ------------------------------
+
+		/**
+		 * A view of keys, values or entries, which replaces the read cache
+		 * if the defaults are modified via the view, its iterator or its entries.
+		 */
+		private class CacheInvalidatingCollection<E>
+			extends AbstractCollection<E>
+		{
+			private final Collection<E> view;
+			private final boolean entries;
+
+			CacheInvalidatingCollection( Collection<E> view, boolean entries ) {
+				this.view = view;
+				this.entries = entries;
+			}
+
+			@Override
+			public int size() {
+				return view.size();
+			}
+
+			@Override
+			public boolean contains( Object o ) {
+				return view.contains( o );
+			}
+
+			@Override
+			public boolean remove( Object o ) {
+				invalidateReadCache();
+				try {
+					return view.remove( o );
+				} finally {
+					invalidateReadCache();
+				}
+			}
+
+			@Override
+			public void clear() {
+				FlatUIDefaults.this.clear();
+			}
+
+			@Override
+			public Iterator<E> iterator() {
+				Iterator<E> it = view.iterator();
+				return new Iterator<E>() {
+					@Override
+					public boolean hasNext() {
+						return it.hasNext();
+					}
+
+					@Override
+					@SuppressWarnings( "unchecked" )
+					public E next() {
+						E e = it.next();
+						return entries ? (E) new CacheInvalidatingEntry( (Map.Entry<Object, Object>) e ) : e;
+					}
+
+					@Override
+					public void remove() {
+						// keys of removed active values are not removed from activeValueKeys,
+						// which only disables caching for these keys
+						invalidateReadCache();
+						try {
+							it.remove();
+						} finally {
+							invalidateReadCache();
+						}
+					}
+				};
+			}
+
+			@Override
+			public boolean equals( Object o ) {
+				return o == this || view.equals( o );
+			}
+
+			@Override
+			public int hashCode() {
+				return view.hashCode();
+			}
+		}
+
+		//---- class CacheInvalidatingSet -------------------------------------
+
+		private class CacheInvalidatingSet<E>
+			extends CacheInvalidatingCollection<E>
+			implements Set<E>
+		{
+			CacheInvalidatingSet( Set<E> view, boolean entries ) {
+				super( view, entries );
+			}
+		}
+
+		//---- class CacheInvalidatingEntry -----------------------------------
+
+		private class CacheInvalidatingEntry
+			implements Map.Entry<Object, Object>
+		{
+			private final Map.Entry<Object, Object> entry;
+
+			CacheInvalidatingEntry( Map.Entry<Object, Object> entry ) {
+				this.entry = entry;
+			}
+
+			@Override
+			public Object getKey() {
+				return entry.getKey();
+			}
+
+			@Override
+			public Object getValue() {
+				return entry.getValue();
+			}
+
+			@Override
+			public Object setValue( Object value ) {
+				trackActiveValue( entry.getKey(), value );
+				invalidateReadCache();
+				try {
+					return entry.setValue( value );
+				} finally {
+					invalidateReadCache();
+				}
+			}
+
+			@Override
+			public boolean equals( Object o ) {
+				return o == this || entry.equals( o );
+			}
+
+			@Override
+			public int hashCode() {
+				return entry.hashCode();
+			}
+
+			@Override
+			public String toString() {
+				return entry.toString();
+			}
+		}
 	}
 
 	//---- class ActiveFont ---------------------------------------------------
@@ -1466,10 +2067,10 @@ public abstract class FlatLaf
 		private final float scaleSize;
 
 		// cache (scaled/derived) font
-		private FontUIResource font;
-		private Font lastBaseFont;
+		private volatile DerivedFont derivedFont;
 
-		private boolean inCreateValue;
+		// recursion guard (per thread)
+		private final ThreadLocal<Boolean> inCreateValue = new ThreadLocal<>();
 
 		/**
 		 * @param families list of font families, or {@code null}
@@ -1492,15 +2093,15 @@ public abstract class FlatLaf
 			this.scaleSize = scaleSize;
 		}
 
-		// using synchronized to avoid exception if invoked at the same time on multiple threads
+		// not synchronized to allow invocation at the same time on multiple threads without locking
 		@Override
-		public synchronized Object createValue( UIDefaults table ) {
-			if( inCreateValue )
+		public Object createValue( UIDefaults table ) {
+			if( inCreateValue.get() != null )
 				throw new IllegalStateException( "FlatLaf: endless recursion in font" );
 
 			Font baseFont = null;
 
-			inCreateValue = true;
+			inCreateValue.set( Boolean.TRUE );
 			try {
 				if( baseFontKey != null )
 					baseFont = (Font) UIDefaultsLoader.lazyUIManagerGet( baseFontKey );
@@ -1512,16 +2113,17 @@ public abstract class FlatLaf
 				if( baseFont == null )
 					baseFont = UIManager.getFont( "Label.font" );
 			} finally {
-				inCreateValue = false;
+				inCreateValue.remove();
 			}
 
-			if( lastBaseFont != baseFont ) {
-				lastBaseFont = baseFont;
-
-				font = derive( baseFont, fontSize -> UIScale.scale( fontSize ) );
+			// use local variable because it may be replaced on another thread
+			DerivedFont derivedFont = this.derivedFont;
+			if( derivedFont == null || derivedFont.baseFont != baseFont ) {
+				derivedFont = new DerivedFont( baseFont, derive( baseFont, fontSize -> UIScale.scale( fontSize ) ) );
+				this.derivedFont = derivedFont;
 			}
 
-			return font;
+			return derivedFont.font;
 		}
 
 		FontUIResource derive( Font baseFont, IntUnaryOperator scale ) {
@@ -1598,14 +2200,101 @@ public abstract class FlatLaf
 			for( String family : families ) {
 				family = family.toLowerCase( Locale.ENGLISH );
 				if( family.endsWith( " light" ) || family.endsWith( "-thin" ) )
-					return preferredLightFontFamily;
+					return getPreferredLightFontFamily();
 				if( family.endsWith( " semibold" ) || family.endsWith( "-medium" ) )
-					return preferredSemiboldFontFamily;
+					return getPreferredSemiboldFontFamily();
 				if( family.equals( "monospaced" ) )
-					return preferredMonospacedFontFamily;
+					return getPreferredMonospacedFontFamily();
 			}
 			return null;
 		}
+
+		//---- class DerivedFont ----------------------------------------------
+
+		private static class DerivedFont
+		{
+			final Font baseFont;
+			final FontUIResource font;
+
+			DerivedFont( Font baseFont, FontUIResource font ) {
+				this.baseFont = baseFont;
+				this.font = font;
+			}
+		}
+	}
+
+	//---- class PreparedDefaults ---------------------------------------------
+
+	private static class PreparedDefaults
+	{
+		final UIDefaults defaults;
+		final DefaultsInputs inputs;
+
+		PreparedDefaults( UIDefaults defaults, DefaultsInputs inputs ) {
+			this.defaults = defaults;
+			this.inputs = inputs;
+		}
+	}
+
+	//---- class DefaultsInputs -----------------------------------------------
+
+	/**
+	 * The values that affect the UI defaults created in {@link FlatLaf#createDefaults()},
+	 * except the look and feel itself.
+	 * Used on the background thread of {@link FlatLaf#prepare(LookAndFeel)}
+	 * and to check whether prepared UI defaults are still valid.
+	 */
+	private static class DefaultsInputs
+	{
+		final FlatLaf laf;
+		final List<Object> customDefaultsSources;
+		final Map<String, String> globalExtraDefaults;
+		final Map<String, String> extraDefaults;
+		final Function<String, Color> systemColorGetter;
+		final String preferredFontFamily;
+		final String preferredLightFontFamily;
+		final String preferredSemiboldFontFamily;
+		final String preferredMonospacedFontFamily;
+		final Locale locale;
+		final float userScaleFactor;
+
+		DefaultsInputs( FlatLaf laf ) {
+			this.laf = laf;
+			customDefaultsSources = (FlatLaf.customDefaultsSources != null) ? new ArrayList<>( FlatLaf.customDefaultsSources ) : null;
+			globalExtraDefaults = (FlatLaf.globalExtraDefaults != null) ? new HashMap<>( FlatLaf.globalExtraDefaults ) : null;
+			extraDefaults = (laf.extraDefaults != null) ? new HashMap<>( laf.extraDefaults ) : null;
+			systemColorGetter = FlatLaf.systemColorGetter;
+			preferredFontFamily = FlatLaf.preferredFontFamily;
+			preferredLightFontFamily = FlatLaf.preferredLightFontFamily;
+			preferredSemiboldFontFamily = FlatLaf.preferredSemiboldFontFamily;
+			preferredMonospacedFontFamily = FlatLaf.preferredMonospacedFontFamily;
+			locale = Locale.getDefault();
+			userScaleFactor = UIScale.getUserScaleFactor();
+		}
+
+		@Override
+		public boolean equals( Object obj ) {
+			if( !(obj instanceof DefaultsInputs) )
+				return false;
+
+			DefaultsInputs other = (DefaultsInputs) obj;
+			return laf == other.laf &&
+				Objects.equals( customDefaultsSources, other.customDefaultsSources ) &&
+				Objects.equals( globalExtraDefaults, other.globalExtraDefaults ) &&
+				Objects.equals( extraDefaults, other.extraDefaults ) &&
+				systemColorGetter == other.systemColorGetter &&
+				Objects.equals( preferredFontFamily, other.preferredFontFamily ) &&
+				Objects.equals( preferredLightFontFamily, other.preferredLightFontFamily ) &&
+				Objects.equals( preferredSemiboldFontFamily, other.preferredSemiboldFontFamily ) &&
+				Objects.equals( preferredMonospacedFontFamily, other.preferredMonospacedFontFamily ) &&
+				locale.equals( other.locale ) &&
+				userScaleFactor == other.userScaleFactor;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( laf, customDefaultsSources, globalExtraDefaults, extraDefaults, locale );
+		}
 	}
 
 	//---- class ImageIconUIResource ------------------------------------------
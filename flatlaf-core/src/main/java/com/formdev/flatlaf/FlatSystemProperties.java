@@ -135,6 +135,18 @@ public interface FlatSystemProperties
 	 */
 	String ANIMATION = "flatlaf.animation";
 
+	/**
+	 * Specifies the maximum frame rate (frames per second) of animations.
+	 * All running animations are driven by a single timer,
+	 * which fires at most at this frame rate.
+	 * <p>
+	 * <strong>Allowed Values</strong> a positive integer<br>
+	 * <strong>Default</strong> none (limited only by animation resolution; usually 100)
+	 *
+	 * @since 3.5
+	 */
+	String ANIMATION_FRAME_RATE = "flatlaf.animationFrameRate";
+
 	/**
 	 * Specifies whether vertical text position is corrected when UI is scaled on HiDPI screens.
 	 * <p>
@@ -204,6 +216,62 @@ public interface FlatSystemProperties
 	 */
 	String NATIVE_LIBRARY_PATH = "flatlaf.nativeLibraryPath";
 
+	/**
+	 * Specifies whether FlatLaf stores a binary snapshot of the UI defaults loaded
+	 * from properties files and reuses it on next application start,
+	 * which is faster than loading and parsing the properties files.
+	 * <p>
+	 * If the value is {@code true}, the snapshots are stored in directory {@code .flatlaf/cache}
+	 * in the user home directory. Otherwise, the value specifies the directory
+	 * where the snapshots are stored. The directory is created with owner-only permissions.
+	 * Snapshots are ignored if the directory or the snapshot file is not owned by
+	 * the current user or is writable by other users (on file systems that support
+	 * POSIX file permissions). Do not use directories shared with other users.
+	 * <p>
+	 * A snapshot is automatically regenerated if one of the inputs changes
+	 * (e.g. FlatLaf version, addons, custom defaults sources or extra defaults).
+	 * Snapshots are not used if a system color getter is set
+	 * (see {@link FlatLaf#setSystemColorGetter(java.util.function.Function)}),
+	 * if an addon overrides {@link FlatDefaultsAddon#getDefaults(Class)}
+	 * or if custom defaults are loaded from URLs other than JARs or files.
+	 * <p>
+	 * <strong>Allowed Values</strong> {@code false}, {@code true} or a directory path<br>
+	 * <strong>Default</strong> {@code false}
+	 *
+	 * @since 3.5
+	 */
+	String UI_DEFAULTS_CACHE = "flatlaf.uiDefaultsCache";
+
+	/**
+	 * Specifies whether values in FlatLaf properties files are parsed lazily
+	 * on first access (e.g. {@code UIManager.getColor("Button.background")}),
+	 * instead of parsing all values when setting up the look and feel.
+	 * This makes setting up (and switching) the look and feel faster
+	 * because usually only a fraction of all UI values are used.
+	 * <p>
+	 * Note that syntax errors in values are reported on first access.
+	 * <p>
+	 * <strong>Allowed Values</strong> {@code false} and {@code true}<br>
+	 * <strong>Default</strong> {@code false}
+	 *
+	 * @since 3.5
+	 */
+	String UI_DEFAULTS_LAZY_PARSING = "flatlaf.uiDefaultsLazyParsing";
+
+	/**
+	 * Specifies the number of background threads used to parse lazy values
+	 * in advance if lazy parsing is enabled (see {@link #UI_DEFAULTS_LAZY_PARSING}).
+	 * Values that are accessed before they are parsed on a background thread,
+	 * are parsed on the accessing thread.
+	 * <p>
+	 * <strong>Allowed Values</strong> {@code 0} (no background parsing) or a positive integer
+	 * (limited to number of available processors)<br>
+	 * <strong>Default</strong> {@code 0}
+	 *
+	 * @since 3.5
+	 */
+	String UI_DEFAULTS_PREWARM_THREADS = "flatlaf.uiDefaultsPrewarmThreads";
+
 	/**
 	 * Checks whether a system property is set and returns {@code true} if its value
 	 * is {@code "true"} (case-insensitive), otherwise it returns {@code false}.
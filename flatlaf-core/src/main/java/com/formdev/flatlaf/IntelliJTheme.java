@@ -17,6 +17,9 @@
 package com.formdev.flatlaf;
 
 import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Insets;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -25,7 +28,6 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -36,7 +38,8 @@ import java.util.Set;
 import java.util.Map.Entry;
 import javax.swing.UIDefaults;
 import javax.swing.plaf.ColorUIResource;
-import com.formdev.flatlaf.json.Json;
+import com.formdev.flatlaf.json.JsonHandler;
+import com.formdev.flatlaf.json.JsonParser;
 import com.formdev.flatlaf.json.ParseException;
 import com.formdev.flatlaf.util.ColorFunctions;
 import com.formdev.flatlaf.util.LoggingFacade;
@@ -66,11 +69,15 @@ public class IntelliJTheme
 	private final boolean isMaterialUILite;
 
 	private Map<String, String> colors;
-	private Map<String, Object> ui;
+	private List<String> ui; // flattened Json "ui" structure; alternating keys and values
 	private Map<String, Object> icons;
 
 	private Map<String, ColorUIResource> namedColors = Collections.emptyMap();
 
+	// compiled Json "ui" structure (see compile())
+	private List<UIEntry> compiledUI;
+	private Set<String> compiledUIKeys;
+
 	/**
 	 * Loads a IntelliJ .theme.json file from the given input stream,
 	 * creates a Laf instance for it and sets it up.
@@ -127,12 +134,13 @@ public class IntelliJTheme
 	public IntelliJTheme( InputStream in )
 		throws IOException
 	{
-		Map<String, Object> json;
+		ThemeJsonHandler handler = new ThemeJsonHandler();
 	    try( Reader reader = new InputStreamReader( in, StandardCharsets.UTF_8 ) ) {
-	    		json = (Map<String, Object>) Json.parse( reader );
+	    		new JsonParser( handler ).parse( reader );
 		} catch( ParseException ex ) {
 			throw new IOException( ex.getMessage(), ex );
 		}
+		Map<String, Object> json = handler.json;
 
 	    name = (String) json.get( "name" );
 	    dark = Boolean.parseBoolean( (String) json.get( "dark" ) );
@@ -141,12 +149,13 @@ public class IntelliJTheme
 		isMaterialUILite = author.equals( "Mallowigi" );
 
 	    colors = (Map<String, String>) json.get( "colors" );
-	    ui = (Map<String, Object>) json.get( "ui" );
+	    ui = handler.ui;
 	    icons = (Map<String, Object>) json.get( "icons" );
 	}
 
 	private void applyProperties( UIDefaults defaults ) {
-		if( ui == null )
+		compile();
+		if( compiledUI == null )
 			return;
 
 		defaults.put( "Component.isIntelliJTheme", true );
@@ -159,11 +168,9 @@ public class IntelliJTheme
 
 		loadNamedColors( defaults );
 
-		// convert Json "ui" structure to UI defaults
-		ArrayList<Object> defaultsKeysCache = new ArrayList<>();
-		Set<String> uiKeys = new HashSet<>();
-		for( Map.Entry<String, Object> e : ui.entrySet() )
-			apply( e.getKey(), e.getValue(), defaults, defaultsKeysCache, uiKeys );
+		// apply compiled Json "ui" structure to UI defaults
+		applyUI( defaults );
+		Set<String> uiKeys = compiledUIKeys;
 
 		applyColorPalette( defaults );
 		applyCheckBoxColors( defaults );
@@ -285,16 +292,19 @@ public class IntelliJTheme
 
 		// override UI defaults with theme specific wildcard replacements
 		if( !wildcards.isEmpty() ) {
-			for( Object key : defaults.keySet().toArray() ) {
-				int dot;
-				if( !(key instanceof String) ||
-					(dot = ((String)key).lastIndexOf( '.' )) < 0 )
-				  continue;
-
-				String wildcardKey = ((String)key).substring( dot + 1 );
-				Object wildcardValue = wildcards.get( wildcardKey );
-				if( wildcardValue != null )
+			UIDefaultsKeyIndex keyIndex = new UIDefaultsKeyIndex( defaults.keys(),
+				key -> (key instanceof String) ? (String) key : null );
+			for( Map.Entry<String, Object> e : wildcards.entrySet() ) {
+				String wildcardKey = e.getKey();
+				Object wildcardValue = e.getValue();
+
+				// wildcard replaces only last key segment
+				if( wildcardKey.indexOf( '.' ) >= 0 )
+					continue;
+
+				keyIndex.forEachKeyWithSuffix( wildcardKey, key -> {
 					defaults.put( key, wildcardValue );
+				} );
 			}
 		}
 
@@ -312,11 +322,6 @@ public class IntelliJTheme
 
 			defaults.put( key, value );
 		}
-
-		// let Java release memory
-		colors = null;
-		ui = null;
-		icons = null;
 	}
 
 	private Object get( UIDefaults defaults, Map<Object, Object> themeSpecificDefaults, String key ) {
@@ -360,129 +365,151 @@ public class IntelliJTheme
 	 * http://www.jetbrains.org/intellij/sdk/docs/reference_guide/ui_themes/themes_customize.html#defining-named-colors
 	 */
 	private void loadNamedColors( UIDefaults defaults ) {
-		if( colors == null )
-			return;
-
-		namedColors = new HashMap<>();
-
-		for( Map.Entry<String, String> e : colors.entrySet() ) {
-			String value = e.getValue();
-			ColorUIResource color = parseColor( value );
-			if( color != null ) {
-				String key = e.getKey();
-				namedColors.put( key, color );
-				defaults.put( "ColorPalette." + key, color );
-			}
-		}
+		for( Map.Entry<String, ColorUIResource> e : namedColors.entrySet() )
+			defaults.put( "ColorPalette." + e.getKey(), e.getValue() );
 	}
 
 	/**
-	 * http://www.jetbrains.org/intellij/sdk/docs/reference_guide/ui_themes/themes_customize.html#custom-ui-control-colors
+	 * Converts the Json "ui" structure and the named colors into a list of UI defaults
+	 * keys and parsed values, which can be applied to UI defaults multiple times
+	 * without parsing again (e.g. when switching between themes).
+	 * Invoked on first use.
 	 */
-	@SuppressWarnings( "unchecked" )
-	private void apply( String key, Object value, UIDefaults defaults, ArrayList<Object> defaultsKeysCache, Set<String> uiKeys ) {
-		if( value instanceof Map ) {
-			Map<String, Object> map = (Map<String, Object>)value;
-			if( map.containsKey( "os.default" ) || map.containsKey( "os.windows" ) || map.containsKey( "os.mac" ) || map.containsKey( "os.linux" ) ) {
-				String osKey = SystemInfo.isWindows ? "os.windows"
-					: SystemInfo.isMacOS ? "os.mac"
-					: SystemInfo.isLinux ? "os.linux" : null;
-				if( osKey != null && map.containsKey( osKey ) )
-					apply( key, map.get( osKey ), defaults, defaultsKeysCache, uiKeys );
-				else if( map.containsKey( "os.default" ) )
-					apply( key, map.get( "os.default" ), defaults, defaultsKeysCache, uiKeys );
-			} else {
-				for( Map.Entry<String, Object> e : map.entrySet() )
-					apply( key + '.' + e.getKey(), e.getValue(), defaults, defaultsKeysCache, uiKeys );
+	private synchronized void compile() {
+		if( compiledUI != null || ui == null )
+			return;
+
+		// named colors
+		if( colors != null ) {
+			namedColors = new LinkedHashMap<>();
+			for( Map.Entry<String, String> e : colors.entrySet() ) {
+				ColorUIResource color = parseColor( e.getValue() );
+				if( color != null )
+					namedColors.put( e.getKey(), color );
 			}
-		} else {
-			if( "".equals( value ) )
-				return; // ignore empty value
+		}
 
-			// ignore some properties that affect sizes
-			if( key.endsWith( ".border" ) ||
-				key.endsWith( ".rowHeight" ) ||
-				key.equals( "ComboBox.padding" ) ||
-				key.equals( "Spinner.padding" ) ||
-				key.equals( "Tree.leftChildIndent" ) ||
-				key.equals( "Tree.rightChildIndent" ) )
-			  return; // ignore
+		// Json "ui" structure
+		List<UIEntry> entries = new ArrayList<>( ui.size() / 2 );
+		Set<String> uiKeys = new HashSet<>();
+		int size = ui.size();
+		for( int i = 0; i < size; i += 2 )
+			compile( ui.get( i ), ui.get( i + 1 ), entries, uiKeys );
 
-			// map keys
-			key = uiKeyMapping.getOrDefault( key, key );
-			if( key.isEmpty() )
-				return; // ignore key
+		compiledUI = entries;
+		compiledUIKeys = uiKeys;
 
-			// exclude properties
-			int dot = key.indexOf( '.' );
-			if( dot > 0 && uiKeyExcludes.contains( key.substring( 0, dot + 1 ) ) )
-				return;
+		// let Java release memory
+		colors = null;
+		ui = null;
+	}
 
-			if( uiKeyDoNotOverride.contains( key ) && uiKeys.contains( key ) )
-				return;
+	/**
+	 * http://www.jetbrains.org/intellij/sdk/docs/reference_guide/ui_themes/themes_customize.html#custom-ui-control-colors
+	 */
+	private void compile( String key, String value, List<UIEntry> entries, Set<String> uiKeys ) {
+		if( value.isEmpty() )
+			return; // ignore empty value
+
+		// ignore some properties that affect sizes
+		if( key.endsWith( ".border" ) ||
+			key.endsWith( ".rowHeight" ) ||
+			key.equals( "ComboBox.padding" ) ||
+			key.equals( "Spinner.padding" ) ||
+			key.equals( "Tree.leftChildIndent" ) ||
+			key.equals( "Tree.rightChildIndent" ) )
+		  return; // ignore
+
+		// map keys
+		key = uiKeyMapping.getOrDefault( key, key );
+		if( key.isEmpty() )
+			return; // ignore key
+
+		// exclude properties
+		int dot = key.indexOf( '.' );
+		if( dot > 0 && uiKeyExcludes.contains( key.substring( 0, dot + 1 ) ) )
+			return;
 
-			uiKeys.add( key );
+		if( uiKeyDoNotOverride.contains( key ) && uiKeys.contains( key ) )
+			return;
 
-			String valueStr = value.toString();
+		uiKeys.add( key );
 
-			// map named colors
-			Object uiValue = namedColors.get( valueStr );
+		String valueStr = value;
 
-			// parse value
-			if( uiValue == null ) {
-				// fix errors (missing '#' for colors)
-				if( !valueStr.startsWith( "#" ) && (key.endsWith( "ground" ) || key.endsWith( "Color" )) )
-					valueStr = fixColorIfValid( "#" + valueStr, valueStr );
-				else if( valueStr.startsWith( "##" ) )
-					valueStr = fixColorIfValid( valueStr.substring( 1 ), valueStr );
-				else if( key.endsWith( ".border" ) || key.endsWith( "Border" ) ) {
-					List<String> parts = StringUtils.split( valueStr, ',' );
-					if( parts.size() == 5 && !parts.get( 4 ).startsWith( "#" ) ) {
-						parts.set( 4, "#" + parts.get( 4 ) );
-						valueStr = String.join( ",", parts );
-					}
+		// map named colors
+		Object uiValue = namedColors.get( valueStr );
+
+		// parse value
+		if( uiValue == null ) {
+			// fix errors (missing '#' for colors)
+			if( !valueStr.startsWith( "#" ) && (key.endsWith( "ground" ) || key.endsWith( "Color" )) )
+				valueStr = fixColorIfValid( "#" + valueStr, valueStr );
+			else if( valueStr.startsWith( "##" ) )
+				valueStr = fixColorIfValid( valueStr.substring( 1 ), valueStr );
+			else if( key.endsWith( ".border" ) || key.endsWith( "Border" ) ) {
+				List<String> parts = StringUtils.split( valueStr, ',' );
+				if( parts.size() == 5 && !parts.get( 4 ).startsWith( "#" ) ) {
+					parts.set( 4, "#" + parts.get( 4 ) );
+					valueStr = String.join( ",", parts );
 				}
+			}
 
-				// parse value
-				try {
-					uiValue = UIDefaultsLoader.parseValue( key, valueStr, null );
-				} catch( RuntimeException ex ) {
-					UIDefaultsLoader.logParseError( key, valueStr, ex, false );
-					return; // ignore invalid value
-				}
+			// parse value
+			try {
+				uiValue = UIDefaultsLoader.parseValue( key, valueStr, null );
+			} catch( RuntimeException ex ) {
+				UIDefaultsLoader.logParseError( key, valueStr, ex, false );
+				return; // ignore invalid value
 			}
+		}
+
+		entries.add( new UIEntry( key, uiValue, valueStr ) );
+	}
+
+	private void applyUI( UIDefaults defaults ) {
+		UIDefaultsKeyIndex defaultsKeyIndex = null;
+		for( UIEntry entry : compiledUI ) {
+			String key = entry.key;
+			Object uiValue = entry.getValue();
 
 			if( key.startsWith( "*." ) ) {
 				// wildcard
-				String tail = key.substring( 1 );
-
-				// because we can not iterate over the UI defaults keys while
-				// modifying UI defaults in the same loop, we have to copy the keys
-				if( defaultsKeysCache.size() != defaults.size() ) {
-					defaultsKeysCache.clear();
-					Enumeration<Object> e = defaults.keys();
-					while( e.hasMoreElements() )
-						defaultsKeysCache.add( e.nextElement() );
+				String suffix = key.substring( 2 );
+
+				// index UI defaults keys by last key segment (built on first wildcard key);
+				// support replacing of mapped keys
+				// (e.g. set ComboBox.buttonEditableBackground to *.background
+				// because it is mapped from ComboBox.ArrowButton.background)
+				if( defaultsKeyIndex == null ) {
+					defaultsKeyIndex = new UIDefaultsKeyIndex( defaults.keys(), k -> {
+						return (k instanceof String) ? uiKeyInverseMapping.getOrDefault( k, (String) k ) : null;
+					} );
 				}
 
 				// replace all values in UI defaults that match the wildcard key
-				for( Object k : defaultsKeysCache ) {
+				defaultsKeyIndex.forEachKeyWithSuffix( suffix, k -> {
 					if( k.equals( "Desktop.background" ) ||
 						k.equals( "DesktopIcon.background" ) ||
-						k.equals( "TabbedPane.focusColor" ) )
-					  continue;
-
-					if( k instanceof String ) {
-						// support replacing of mapped keys
-						// (e.g. set ComboBox.buttonEditableBackground to *.background
-						// because it is mapped from ComboBox.ArrowButton.background)
-						String km = uiKeyInverseMapping.getOrDefault( k, (String) k );
-						if( km.endsWith( tail ) && !((String)k).startsWith( "CheckBox.icon." ) )
-							defaults.put( k, uiValue );
-					}
+						k.equals( "TabbedPane.focusColor" ) ||
+						((String)k).startsWith( "CheckBox.icon." ) )
+					  return;
+
+					defaults.put( k, uiValue );
+				} );
+				if( uiValue == null )
+					defaultsKeyIndex = null; // keys removed; rebuild index on next wildcard key
+			} else {
+				Object oldValue = defaults.put( key, uiValue );
+
+				// update index
+				if( defaultsKeyIndex != null ) {
+					if( uiValue == null )
+						defaultsKeyIndex = null; // key removed; rebuild index on next wildcard key
+					else if( oldValue == null )
+						defaultsKeyIndex.add( key );
 				}
-			} else
-				defaults.put( key, uiValue );
+			}
 		}
 	}
 
@@ -787,6 +814,219 @@ public class IntelliJTheme
 			checkboxDuplicateColors.put( e.getValue(), e.getKey() );
 	}
 
+	//---- class ThemeJsonHandler ---------------------------------------------
+
+	/**
+	 * Json handler that flattens the "ui" object of a theme into a list of keys and values
+	 * while parsing (e.g. {@code "Button": { "arc": 6 }} becomes {@code Button.arc} and {@code 6}).
+	 * Selects values of platform-specific objects (e.g. {@code "os.mac": ...}) for current platform.
+	 * Only other top-level members that are used by IntelliJTheme are converted to maps.
+	 */
+	private static class ThemeJsonHandler
+		extends JsonHandler<List<Object>, ThemeJsonHandler.JsonObject>
+	{
+		private static final String OS_KEY = SystemInfo.isWindows ? "os.windows"
+			: SystemInfo.isMacOS ? "os.mac"
+			: SystemInfo.isLinux ? "os.linux" : null;
+
+		Map<String, Object> json;
+		final List<String> ui = new ArrayList<>();
+
+		// key path and whether to create map for next value
+		private String nextPath;
+		private boolean nextMap = true;
+
+		private Object value;
+		private boolean scalarValue;
+
+		@Override
+		public JsonObject startObject() {
+			JsonObject object = new JsonObject( nextPath, nextMap ? new LinkedHashMap<>() : null, ui.size() );
+			if( json == null )
+				json = object.map;
+			return object;
+		}
+
+		@Override
+		public void endObject( JsonObject object ) {
+			if( object.platform ) {
+				// replace values of platform-specific object with values for current platform
+				int start = (object.osStart >= 0) ? object.osStart : object.defaultStart;
+				int end = (object.osStart >= 0) ? object.osEnd : object.defaultEnd;
+				List<String> values = (start >= 0)
+					? new ArrayList<>( ui.subList( start, end ) )
+					: Collections.emptyList();
+				ui.subList( object.start, ui.size() ).clear();
+				ui.addAll( values );
+			}
+
+			value = object.map;
+			scalarValue = false;
+		}
+
+		@Override
+		public void startObjectValue( JsonObject object, String name ) {
+			if( object.path != null ) {
+				// in "ui" object
+				if( isPlatformKey( name ) ) {
+					object.platform = true;
+					object.valueStart = ui.size();
+					nextPath = object.path;
+				} else
+					nextPath = object.path.isEmpty() ? name : object.path + '.' + name;
+				nextMap = false;
+			} else if( object.map == json ) {
+				// top-level
+				nextPath = name.equals( "ui" ) ? "" : null;
+				nextMap = name.equals( "colors" ) || name.equals( "icons" );
+			} else {
+				nextPath = null;
+				nextMap = (object.map != null);
+			}
+		}
+
+		@Override
+		public void endObjectValue( JsonObject object, String name ) {
+			if( object.path != null ) {
+				// in "ui" object
+				boolean platformKey = isPlatformKey( name );
+				if( scalarValue || value instanceof List ) {
+					ui.add( platformKey ? object.path : (object.path.isEmpty() ? name : object.path + '.' + name) );
+					ui.add( String.valueOf( value ) );
+				}
+
+				if( platformKey ) {
+					if( name.equals( OS_KEY ) ) {
+						object.osStart = object.valueStart;
+						object.osEnd = ui.size();
+					} else if( name.equals( "os.default" ) ) {
+						object.defaultStart = object.valueStart;
+						object.defaultEnd = ui.size();
+					}
+				}
+			} else if( object.map != null )
+				object.map.put( name, value );
+		}
+
+		@Override
+		public List<Object> startArray() {
+			return new ArrayList<>();
+		}
+
+		@Override
+		public void endArray( List<Object> array ) {
+			value = array;
+			scalarValue = false;
+		}
+
+		@Override
+		public void startArrayValue( List<Object> array ) {
+			nextPath = null;
+			nextMap = true;
+		}
+
+		@Override
+		public void endArrayValue( List<Object> array ) {
+			array.add( value );
+		}
+
+		@Override
+		public void endNull() {
+			setScalarValue( "null" );
+		}
+
+		@Override
+		public void endBoolean( boolean bool ) {
+			setScalarValue( bool ? "true" : "false" );
+		}
+
+		@Override
+		public void endString( String string ) {
+			setScalarValue( string );
+		}
+
+		@Override
+		public void endNumber( String string ) {
+			setScalarValue( string );
+		}
+
+		private void setScalarValue( String value ) {
+			this.value = value;
+			scalarValue = true;
+		}
+
+		private static boolean isPlatformKey( String name ) {
+			return name.equals( "os.default" ) || name.equals( "os.windows" ) ||
+				name.equals( "os.mac" ) || name.equals( "os.linux" );
+		}
+
+		//---- class JsonObject -----------------------------------------------
+
+		static class JsonObject
+		{
+			final String path; // key path in "ui" object; or null if not in "ui" object
+			final Map<String, Object> map; // or null if not needed
+			final int start;
+
+			boolean platform;
+			int valueStart;
+			int osStart = -1;
+			int osEnd;
+			int defaultStart = -1;
+			int defaultEnd;
+
+			JsonObject( String path, Map<String, Object> map, int start ) {
+				this.path = path;
+				this.map = map;
+				this.start = start;
+			}
+		}
+	}
+
+	//---- class UIEntry ------------------------------------------------------
+
+	private static class UIEntry
+	{
+		final String key;
+		private final Object value;
+		private final String valueStr;
+
+		UIEntry( String key, Object value, String valueStr ) {
+			this.key = key;
+			this.value = value;
+			this.valueStr = valueStr;
+		}
+
+		/**
+		 * Returns the value to put into UI defaults.
+		 * Compiled entries are shared by all look and feel instances that apply this theme,
+		 * so mutable values are copied or parsed again.
+		 */
+		Object getValue() {
+			if( value == null ||
+				value instanceof String ||
+				value instanceof Number ||
+				value instanceof Boolean ||
+				value instanceof Character ||
+				value instanceof Color ||
+				value instanceof Font ||
+				value instanceof UIDefaults.LazyValue ||
+				value instanceof UIDefaults.ActiveValue )
+			  return value;
+
+			if( value instanceof Insets )
+				return ((Insets)value).clone();
+			if( value instanceof Dimension )
+				return ((Dimension)value).clone();
+
+			try {
+				return UIDefaultsLoader.parseValue( key, valueStr, null );
+			} catch( RuntimeException ex ) {
+				return value;
+			}
+		}
+	}
+
 	//---- class ThemeLaf -----------------------------------------------------
 
 	public static class ThemeLaf
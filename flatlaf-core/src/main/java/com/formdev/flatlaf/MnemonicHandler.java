@@ -17,7 +17,6 @@
 package com.formdev.flatlaf;
 
 import java.awt.Component;
-import java.awt.Container;
 import java.awt.EventQueue;
 import java.awt.KeyEventPostProcessor;
 import java.awt.KeyboardFocusManager;
@@ -27,6 +26,8 @@ import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.awt.event.WindowListener;
 import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
 import javax.swing.AbstractButton;
 import javax.swing.JDialog;
 import javax.swing.JFrame;
@@ -55,6 +56,9 @@ class MnemonicHandler
 	private static WeakReference<Window> lastShowMnemonicWindow;
 	private static WindowListener windowListener;
 
+	// components that may display mnemonics (registered by FlatLaf UI delegates)
+	private static final Map<Component, Boolean> mnemonicComponents = new WeakHashMap<>();
+
 	static boolean isShowMnemonics() {
 		return showMnemonics || !UIManager.getBoolean( "Component.hideMnemonics" );
 	}
@@ -177,6 +181,18 @@ class MnemonicHandler
 		}
 	}
 
+	static void registerMnemonicComponent( Component c ) {
+		synchronized( mnemonicComponents ) {
+			mnemonicComponents.put( c, Boolean.TRUE );
+		}
+	}
+
+	static void unregisterMnemonicComponent( Component c ) {
+		synchronized( mnemonicComponents ) {
+			mnemonicComponents.remove( c );
+		}
+	}
+
 	static void showMnemonics( boolean show, Component c ) {
 		if( show == showMnemonics )
 			return;
@@ -233,16 +249,19 @@ class MnemonicHandler
 		}
 	}
 
-	private static void repaintMnemonics( Container container ) {
-		for( Component c : container.getComponents() ) {
-			if( !c.isVisible() )
-				continue;
+	/**
+	 * Repaints registered components in the given window that display mnemonics.
+	 */
+	private static void repaintMnemonics( Window window ) {
+		Component[] components;
+		synchronized( mnemonicComponents ) {
+			components = mnemonicComponents.keySet().toArray( new Component[mnemonicComponents.size()] );
+		}
 
-			if( hasMnemonic( c ) )
+		for( Component c : components ) {
+			if( c != null && c.isShowing() && hasMnemonic( c ) &&
+				SwingUtilities.getWindowAncestor( c ) == window )
 				c.repaint();
-
-			if( c instanceof Container )
-				repaintMnemonics( (Container) c );
 		}
 	}
 
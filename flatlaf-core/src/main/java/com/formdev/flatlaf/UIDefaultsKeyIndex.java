@@ -0,0 +1,96 @@
+/*
+ * Copyright 2024 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf;
+
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * An index of UI defaults keys by their last key segment (the part after the last dot).
+ * Used to apply wildcard keys (e.g. {@code *.background}), which replace the values
+ * of all keys that end with the same suffix, without iterating over all keys.
+ * <p>
+ * Keys are stored in buckets by the hash code of their last segment.
+ * The hash code is computed directly from the key, so no substrings are allocated.
+ *
+ * @author Karl Tauber
+ */
+class UIDefaultsKeyIndex
+{
+	private final Function<Object, String> keyMapper;
+	private final HashMap<Integer, ArrayList<Object>> buckets = new HashMap<>();
+
+	/**
+	 * @param keys the keys to add to the index
+	 * @param keyMapper maps a key to the string that is used for matching;
+	 *                  returns {@code null} if the key should not be indexed
+	 */
+	UIDefaultsKeyIndex( Enumeration<Object> keys, Function<Object, String> keyMapper ) {
+		this.keyMapper = keyMapper;
+
+		while( keys.hasMoreElements() )
+			add( keys.nextElement() );
+	}
+
+	/**
+	 * Adds the given key to the index. The caller is responsible to add a key only once.
+	 */
+	void add( Object key ) {
+		String str = keyMapper.apply( key );
+		if( str == null )
+			return;
+
+		int dot = str.lastIndexOf( '.' );
+		if( dot < 0 )
+			return;
+
+		buckets.computeIfAbsent( hash( str, dot + 1 ), k -> new ArrayList<>( 2 ) ).add( key );
+	}
+
+	/**
+	 * Invokes the given action for all keys that end with {@code '.' + suffix}.
+	 * The suffix may contain dots (e.g. {@code ArrowButton.background}).
+	 * The action must not add keys to this index.
+	 */
+	void forEachKeyWithSuffix( String suffix, Consumer<Object> action ) {
+		ArrayList<Object> keys = buckets.get( hash( suffix, suffix.lastIndexOf( '.' ) + 1 ) );
+		if( keys == null )
+			return;
+
+		int suffixLength = suffix.length();
+		for( Object key : keys ) {
+			String str = keyMapper.apply( key );
+			int dot = str.length() - suffixLength - 1;
+			if( dot >= 0 && str.charAt( dot ) == '.' && str.endsWith( suffix ) )
+				action.accept( key );
+		}
+	}
+
+	/**
+	 * Computes the same hash code as {@code str.substring( beginIndex ).hashCode()}.
+	 */
+	private static int hash( String str, int beginIndex ) {
+		int h = 0;
+		int length = str.length();
+		for( int i = beginIndex; i < length; i++ )
+			h = 31 * h + str.charAt( i );
+		return h;
+	}
+}
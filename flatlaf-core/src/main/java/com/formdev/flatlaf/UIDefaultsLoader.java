@@ -41,6 +41,11 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import javax.swing.Icon;
 import javax.swing.UIDefaults;
@@ -86,11 +91,14 @@ class UIDefaultsLoader
 
 	static final String KEY_VARIABLES = "FlatLaf.internal.variables";
 
-	private static int parseColorDepth;
+	// per thread because values may be parsed on multiple threads (see LazyParsedValue)
+	private static final ThreadLocal<int[]> parseColorDepth = ThreadLocal.withInitial( () -> new int[1] );
 
-	private static Map<String, ColorUIResource> systemColorCache;
+	private static volatile Map<String, ColorUIResource> systemColorCache;
 	private static final SoftCache<String, Object> fontCache = new SoftCache<>();
 
+	private static ExecutorService prewarmExecutor;
+
 	static void loadDefaultsFromProperties( Class<?> lookAndFeelClass, List<FlatDefaultsAddon> addons,
 		Properties additionalDefaults, boolean dark, UIDefaults defaults )
 	{
@@ -114,183 +122,310 @@ class UIDefaultsLoader
 			// which avoids that system color getter is invoked multiple times
 			systemColorCache = (FlatLaf.getSystemColorGetter() != null) ? new HashMap<>() : null;
 
-			// load core properties files
-			Properties properties = new Properties();
+			// collect addon class loaders
+			List<ClassLoader> addonClassLoaders = collectAddonClassLoaders( addons );
+
+			// use snapshot of previously loaded defaults (if enabled and up-to-date)
+			UIDefaultsSnapshot snapshot = UIDefaultsSnapshot.create( lafClasses, addons, additionalDefaults, dark );
+			if( snapshot != null && snapshot.load( defaults, addonClassLoaders ) )
+				return;
+
+			// load properties files
+			Properties properties = loadProperties( lafClasses, addons, additionalDefaults, dark, defaults );
+
+			// parse and add properties to UI defaults
+			putDefaults( properties, addonClassLoaders, defaults, snapshot );
+
+			// write snapshot
+			if( snapshot != null )
+				snapshot.save( properties );
+		} catch( IOException ex ) {
+			LoggingFacade.INSTANCE.logSevere( "FlatLaf: Failed to load properties files.", ex );
+		} finally {
+			// clear/disable system color cache
+			systemColorCache = null;
+		}
+	}
+
+	private static List<ClassLoader> collectAddonClassLoaders( List<FlatDefaultsAddon> addons ) {
+		List<ClassLoader> addonClassLoaders = new ArrayList<>();
+		for( FlatDefaultsAddon addon : addons ) {
+			ClassLoader addonClassLoader = addon.getClass().getClassLoader();
+			if( !addonClassLoaders.contains( addonClassLoader ) )
+				addonClassLoaders.add( addonClassLoader );
+		}
+
+		// use class loaders of custom defaults sources also for instantiating classes specified in values
+		List<Object> customDefaultsSources = FlatLaf.getCustomDefaultsSources();
+		int size = (customDefaultsSources != null) ? customDefaultsSources.size() : 0;
+		for( int i = 0; i < size; i++ ) {
+			Object source = customDefaultsSources.get( i );
+			if( source instanceof String && i + 1 < size ) {
+				ClassLoader classLoader = (ClassLoader) customDefaultsSources.get( ++i );
+				if( classLoader != null && !addonClassLoaders.contains( classLoader ) )
+					addonClassLoaders.add( classLoader );
+			}
+		}
+
+		return addonClassLoaders;
+	}
+
+	private static Properties loadProperties( List<Class<?>> lafClasses, List<FlatDefaultsAddon> addons,
+		Properties additionalDefaults, boolean dark, UIDefaults defaults )
+			throws IOException
+	{
+		// load core properties files
+		Properties properties = new Properties();
+		for( Class<?> lafClass : lafClasses ) {
+			String propertiesName = '/' + lafClass.getName().replace( '.', '/' ) + ".properties";
+			try( InputStream in = lafClass.getResourceAsStream( propertiesName ) ) {
+				if( in != null )
+					properties.load( in );
+			}
+		}
+
+		// load properties from addons
+		for( FlatDefaultsAddon addon : addons ) {
 			for( Class<?> lafClass : lafClasses ) {
-				String propertiesName = '/' + lafClass.getName().replace( '.', '/' ) + ".properties";
-				try( InputStream in = lafClass.getResourceAsStream( propertiesName ) ) {
+				try( InputStream in = addon.getDefaults( lafClass ) ) {
 					if( in != null )
 						properties.load( in );
 				}
 			}
+		}
+
+		// load custom properties files (usually provided by applications)
+		List<Object> customDefaultsSources = FlatLaf.getCustomDefaultsSources();
+		int size = (customDefaultsSources != null) ? customDefaultsSources.size() : 0;
+		for( int i = 0; i < size; i++ ) {
+			Object source = customDefaultsSources.get( i );
+			if( source instanceof String && i + 1 < size ) {
+				// load from package in classloader
+				String packageName = (String) source;
+				ClassLoader classLoader = (ClassLoader) customDefaultsSources.get( ++i );
+
+				packageName = packageName.replace( '.', '/' );
+				if( classLoader == null )
+					classLoader = FlatLaf.class.getClassLoader();
 
-			// load properties from addons
-			for( FlatDefaultsAddon addon : addons ) {
 				for( Class<?> lafClass : lafClasses ) {
-					try( InputStream in = addon.getDefaults( lafClass ) ) {
+					String propertiesName = packageName + '/' + lafClass.getSimpleName() + ".properties";
+					try( InputStream in = classLoader.getResourceAsStream( propertiesName ) ) {
 						if( in != null )
 							properties.load( in );
 					}
 				}
-			}
-
-			// collect addon class loaders
-			List<ClassLoader> addonClassLoaders = new ArrayList<>();
-			for( FlatDefaultsAddon addon : addons ) {
-				ClassLoader addonClassLoader = addon.getClass().getClassLoader();
-				if( !addonClassLoaders.contains( addonClassLoader ) )
-					addonClassLoaders.add( addonClassLoader );
-			}
+			} else if( source instanceof URL ) {
+				// load from package URL
+				URL packageUrl = (URL) source;
+				for( Class<?> lafClass : lafClasses ) {
+					URL propertiesUrl = new URL( packageUrl + lafClass.getSimpleName() + ".properties" );
 
-			// load custom properties files (usually provided by applications)
-			List<Object> customDefaultsSources = FlatLaf.getCustomDefaultsSources();
-			int size = (customDefaultsSources != null) ? customDefaultsSources.size() : 0;
-			for( int i = 0; i < size; i++ ) {
-				Object source = customDefaultsSources.get( i );
-				if( source instanceof String && i + 1 < size ) {
-					// load from package in classloader
-					String packageName = (String) source;
-					ClassLoader classLoader = (ClassLoader) customDefaultsSources.get( ++i );
-
-					// use class loader also for instantiating classes specified in values
-					if( classLoader != null && !addonClassLoaders.contains( classLoader ) )
-						addonClassLoaders.add( classLoader );
-
-					packageName = packageName.replace( '.', '/' );
-					if( classLoader == null )
-						classLoader = FlatLaf.class.getClassLoader();
-
-					for( Class<?> lafClass : lafClasses ) {
-						String propertiesName = packageName + '/' + lafClass.getSimpleName() + ".properties";
-						try( InputStream in = classLoader.getResourceAsStream( propertiesName ) ) {
-							if( in != null )
-								properties.load( in );
-						}
+					try( InputStream in = propertiesUrl.openStream() ) {
+						properties.load( in );
+					} catch( FileNotFoundException ex ) {
+						// ignore
 					}
-				} else if( source instanceof URL ) {
-					// load from package URL
-					URL packageUrl = (URL) source;
-					for( Class<?> lafClass : lafClasses ) {
-						URL propertiesUrl = new URL( packageUrl + lafClass.getSimpleName() + ".properties" );
+				}
+			} else if( source instanceof File ) {
+				// load from folder
+				File folder = (File) source;
+				for( Class<?> lafClass : lafClasses ) {
+					File propertiesFile = new File( folder, lafClass.getSimpleName() + ".properties" );
+					if( !propertiesFile.isFile() )
+						continue;
 
-						try( InputStream in = propertiesUrl.openStream() ) {
-							properties.load( in );
-						} catch( FileNotFoundException ex ) {
-							// ignore
-						}
-					}
-				} else if( source instanceof File ) {
-					// load from folder
-					File folder = (File) source;
-					for( Class<?> lafClass : lafClasses ) {
-						File propertiesFile = new File( folder, lafClass.getSimpleName() + ".properties" );
-						if( !propertiesFile.isFile() )
-							continue;
-
-						try( InputStream in = new FileInputStream( propertiesFile ) ) {
-							properties.load( in );
-						}
+					try( InputStream in = new FileInputStream( propertiesFile ) ) {
+						properties.load( in );
 					}
 				}
 			}
+		}
+
+		// add additional defaults
+		if( additionalDefaults != null )
+			properties.putAll( additionalDefaults );
+
+		// collect all platform specific keys (but do not modify properties)
+		ArrayList<String> platformSpecificKeys = new ArrayList<>();
+		for( Object okey : properties.keySet() ) {
+			String key = (String) okey;
+			if( key.startsWith( "[" ) &&
+				(key.startsWith( "[win]" ) ||
+				 key.startsWith( "[mac]" ) ||
+				 key.startsWith( "[linux]" ) ||
+				 key.startsWith( "[light]" ) ||
+				 key.startsWith( "[dark]" )) )
+			  platformSpecificKeys.add( key );
+		}
 
-			// add additional defaults
-			if( additionalDefaults != null )
-				properties.putAll( additionalDefaults );
-
-			// collect all platform specific keys (but do not modify properties)
-			ArrayList<String> platformSpecificKeys = new ArrayList<>();
-			for( Object okey : properties.keySet() ) {
-				String key = (String) okey;
-				if( key.startsWith( "[" ) &&
-					(key.startsWith( "[win]" ) ||
-					 key.startsWith( "[mac]" ) ||
-					 key.startsWith( "[linux]" ) ||
-					 key.startsWith( "[light]" ) ||
-					 key.startsWith( "[dark]" )) )
-				  platformSpecificKeys.add( key );
+		// remove platform specific properties and re-add only properties
+		// for current platform, but with platform prefix removed
+		if( !platformSpecificKeys.isEmpty() ) {
+			// handle light/dark specific properties
+			String lightOrDarkPrefix = dark ? "[dark]" : "[light]";
+			for( String key : platformSpecificKeys ) {
+				if( key.startsWith( lightOrDarkPrefix ) )
+					properties.put( key.substring( lightOrDarkPrefix.length() ), properties.remove( key ) );
 			}
 
-			// remove platform specific properties and re-add only properties
-			// for current platform, but with platform prefix removed
-			if( !platformSpecificKeys.isEmpty() ) {
-				// handle light/dark specific properties
-				String lightOrDarkPrefix = dark ? "[dark]" : "[light]";
-				for( String key : platformSpecificKeys ) {
-					if( key.startsWith( lightOrDarkPrefix ) )
-						properties.put( key.substring( lightOrDarkPrefix.length() ), properties.remove( key ) );
-				}
+			// handle platform specific properties
+			String platformPrefix =
+				SystemInfo.isWindows ? "[win]" :
+				SystemInfo.isMacOS ? "[mac]" :
+				SystemInfo.isLinux ? "[linux]" : "[unknown]";
+			for( String key : platformSpecificKeys ) {
+				Object value = properties.remove( key );
+				if( key.startsWith( platformPrefix ) )
+					properties.put( key.substring( platformPrefix.length() ), value );
+			}
+		}
 
-				// handle platform specific properties
-				String platformPrefix =
-					SystemInfo.isWindows ? "[win]" :
-					SystemInfo.isMacOS ? "[mac]" :
-					SystemInfo.isLinux ? "[linux]" : "[unknown]";
-				for( String key : platformSpecificKeys ) {
-					Object value = properties.remove( key );
-					if( key.startsWith( platformPrefix ) )
-						properties.put( key.substring( platformPrefix.length() ), value );
-				}
+		// get (and remove) wildcard replacements, which override all other defaults that end with same suffix
+		HashMap<String, String> wildcards = new HashMap<>();
+		Iterator<Entry<Object, Object>> it = properties.entrySet().iterator();
+		while( it.hasNext() ) {
+			Entry<Object, Object> e = it.next();
+			String key = (String) e.getKey();
+			if( key.startsWith( WILDCARD_PREFIX ) ) {
+				wildcards.put( key.substring( WILDCARD_PREFIX.length() ), (String) e.getValue() );
+				it.remove();
 			}
+		}
 
-			// get (and remove) wildcard replacements, which override all other defaults that end with same suffix
-			HashMap<String, String> wildcards = new HashMap<>();
-			Iterator<Entry<Object, Object>> it = properties.entrySet().iterator();
-			while( it.hasNext() ) {
-				Entry<Object, Object> e = it.next();
-				String key = (String) e.getKey();
-				if( key.startsWith( WILDCARD_PREFIX ) ) {
-					wildcards.put( key.substring( WILDCARD_PREFIX.length() ), (String) e.getValue() );
-					it.remove();
-				}
+		// override UI defaults with wildcard replacements
+		if( !wildcards.isEmpty() ) {
+			UIDefaultsKeyIndex keyIndex = new UIDefaultsKeyIndex( defaults.keys(),
+				key -> (key instanceof String) ? (String) key : null );
+			for( Entry<String, String> e : wildcards.entrySet() ) {
+				String wildcardKey = e.getKey();
+				String wildcardValue = e.getValue();
+
+				// wildcard replaces only last key segment
+				if( wildcardKey.indexOf( '.' ) >= 0 )
+					continue;
+
+				keyIndex.forEachKeyWithSuffix( wildcardKey, key -> {
+					if( !properties.containsKey( key ) )
+						properties.put( key, wildcardValue );
+				} );
 			}
+		}
+
+		return properties;
+	}
 
-			// override UI defaults with wildcard replacements
-			for( Object key : defaults.keySet() ) {
-				int dot;
-				if( !(key instanceof String) ||
-					properties.containsKey( key ) ||
-					(dot = ((String)key).lastIndexOf( '.' )) < 0 )
-				  continue;
-
-				String wildcardKey = ((String)key).substring( dot + 1 );
-				String wildcardValue = wildcards.get( wildcardKey );
-				if( wildcardValue != null )
-					properties.put( key, wildcardValue );
+	/**
+	 * Parses all properties and adds them to UI defaults.
+	 * Variables (keys starting with '@') are not added, but remembered in UI defaults
+	 * to allow using them in styles.
+	 * <p>
+	 * If lazy parsing is enabled (see {@link FlatSystemProperties#UI_DEFAULTS_LAZY_PARSING}),
+	 * values are added as {@link LazyParsedValue} and parsed on first access.
+	 *
+	 * @param snapshot if not {@code null}, parsed values are also passed to the snapshot
+	 */
+	static void putDefaults( Properties properties, List<ClassLoader> addonClassLoaders,
+		UIDefaults defaults, UIDefaultsSnapshot snapshot )
+	{
+		Function<String, String> propertiesGetter = key -> {
+			return properties.getProperty( key );
+		};
+		Function<String, String> resolver = value -> {
+			return resolveValue( value, propertiesGetter );
+		};
+
+		// lazy parsing requires support for lazy created active values in FlatUIDefaults.get()
+		// and is not used if parsed values are needed for the snapshot
+		boolean lazy = defaults instanceof FlatLaf.FlatUIDefaults &&
+			(snapshot == null || snapshot.isLoaded()) &&
+			FlatSystemProperties.getBoolean( FlatSystemProperties.UI_DEFAULTS_LAZY_PARSING, false );
+		List<LazyParsedValue> lazyValues = lazy ? new ArrayList<>( properties.size() ) : null;
+
+		// parse and add properties to UI defaults
+		Map<String, String> variables = new HashMap<>( 50 );
+		for( Map.Entry<Object, Object> e : properties.entrySet() ) {
+			String key = (String) e.getKey();
+			if( key.startsWith( VARIABLE_PREFIX ) ) {
+				variables.put( key, (String) e.getValue() );
+				continue;
 			}
 
-			Function<String, String> propertiesGetter = key -> {
-				return properties.getProperty( key );
-			};
-			Function<String, String> resolver = value -> {
-				return resolveValue( value, propertiesGetter );
-			};
+			if( snapshot != null && !snapshot.isParseRequired( key ) )
+				continue;
 
-			// parse and add properties to UI defaults
-			Map<String, String> variables = new HashMap<>( 50 );
-			for( Map.Entry<Object, Object> e : properties.entrySet() ) {
-				String key = (String) e.getKey();
-				if( key.startsWith( VARIABLE_PREFIX ) ) {
-					variables.put( key, (String) e.getValue() );
-					continue;
-				}
+			String value = (String) e.getValue();
 
-				String value = (String) e.getValue();
-				try {
-					value = resolveValue( value, propertiesGetter );
-					defaults.put( key, parseValue( key, value, null, null, resolver, addonClassLoaders ) );
-				} catch( RuntimeException ex ) {
-					logParseError( key, value, ex, true );
-				}
+			// "defaultFont" is accessed directly in FlatLaf.initDefaultFont()
+			// "null" values remove existing values and are handled immediately
+			if( lazy && !key.equals( "defaultFont" ) && !value.trim().equals( "null" ) ) {
+				LazyParsedValue lazyValue = new LazyParsedValue( key, value, resolver, addonClassLoaders );
+				defaults.put( key, lazyValue );
+				lazyValues.add( lazyValue );
+				continue;
 			}
 
-			// remember variables in defaults to allow using them in styles
-			defaults.put( KEY_VARIABLES, variables );
+			try {
+				value = resolveValue( value, propertiesGetter );
+				Object parsedValue = parseValue( key, value, null, null, resolver, addonClassLoaders );
+				defaults.put( key, parsedValue );
+
+				if( snapshot != null )
+					snapshot.parsed( key, parsedValue );
+			} catch( RuntimeException ex ) {
+				logParseError( key, value, ex, true );
+			}
+		}
 
-			// clear/disable system color cache
-			systemColorCache = null;
-		} catch( IOException ex ) {
-			LoggingFacade.INSTANCE.logSevere( "FlatLaf: Failed to load properties files.", ex );
+		// remember variables in defaults to allow using them in styles
+		defaults.put( KEY_VARIABLES, variables );
+
+		// parse lazy values in background
+		if( lazyValues != null && !lazyValues.isEmpty() )
+			prewarm( lazyValues );
+	}
+
+	/**
+	 * Parses the given lazy values on background threads, so that they are already
+	 * parsed when accessed the first time. The number of threads is specified in
+	 * system property {@link FlatSystemProperties#UI_DEFAULTS_PREWARM_THREADS}.
+	 */
+	private static void prewarm( List<LazyParsedValue> lazyValues ) {
+		int threadCount = 0;
+		try {
+			String value = System.getProperty( FlatSystemProperties.UI_DEFAULTS_PREWARM_THREADS );
+			if( value != null )
+				threadCount = Math.min( Integer.parseInt( value ), Runtime.getRuntime().availableProcessors() );
+		} catch( NumberFormatException ex ) {
+			// ignore
+		}
+		if( threadCount <= 0 )
+			return;
+
+		synchronized( UIDefaultsLoader.class ) {
+			if( prewarmExecutor == null ) {
+				AtomicInteger threadNumber = new AtomicInteger();
+				ThreadPoolExecutor executor = new ThreadPoolExecutor( threadCount, threadCount,
+					1, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+						Thread thread = new Thread( r, "FlatLaf UI defaults prewarm " + threadNumber.incrementAndGet() );
+						thread.setDaemon( true );
+						thread.setPriority( Thread.MIN_PRIORITY );
+						return thread;
+					} );
+				executor.allowCoreThreadTimeOut( true );
+				prewarmExecutor = executor;
+			}
+		}
+
+		// each task parses a chunk of values
+		int size = lazyValues.size();
+		int chunkSize = (size + threadCount - 1) / threadCount;
+		for( int i = 0; i < size; i += chunkSize ) {
+			List<LazyParsedValue> chunk = lazyValues.subList( i, Math.min( i + chunkSize, size ) );
+			prewarmExecutor.execute( () -> {
+				for( LazyParsedValue lazyValue : chunk )
+					lazyValue.parse();
+			} );
 		}
 	}
 
@@ -370,9 +505,8 @@ class UIDefaultsLoader
 	enum ValueType { UNKNOWN, STRING, BOOLEAN, CHARACTER, INTEGER, INTEGERORFLOAT, FLOAT, BORDER, ICON, INSETS, DIMENSION, COLOR, FONT,
 		SCALEDINTEGER, SCALEDFLOAT, SCALEDINSETS, SCALEDDIMENSION, INSTANCE, CLASS, GRAYFILTER, NULL, LAZY }
 
-	private static final ValueType[] tempResultValueType = new ValueType[1];
-	private static Map<Class<?>, ValueType> javaValueTypes;
-	private static Map<String, ValueType> knownValueTypes;
+	private static volatile Map<Class<?>, ValueType> javaValueTypes;
+	private static volatile Map<String, ValueType> knownValueTypes;
 
 	static Object parseValue( String key, String value, Class<?> valueType )
 		throws IllegalArgumentException
@@ -385,7 +519,7 @@ class UIDefaultsLoader
 			throws IllegalArgumentException
 	{
 		if( resultValueType == null )
-			resultValueType = tempResultValueType;
+			resultValueType = new ValueType[1];
 
 		// do not parse styles here
 		if( key.startsWith( "[style]" ) ) {
@@ -422,6 +556,7 @@ class UIDefaultsLoader
 		ValueType valueType = ValueType.UNKNOWN;
 
 		if( javaValueType != null ) {
+			Map<Class<?>, ValueType> javaValueTypes = UIDefaultsLoader.javaValueTypes;
 			if( javaValueTypes == null ) {
 				// create lazy
 				javaValueTypes = new HashMap<>();
@@ -440,6 +575,7 @@ class UIDefaultsLoader
 				javaValueTypes.put( Dimension.class, ValueType.DIMENSION );
 				javaValueTypes.put( Color.class, ValueType.COLOR );
 				javaValueTypes.put( Font.class, ValueType.FONT );
+				UIDefaultsLoader.javaValueTypes = javaValueTypes;
 			}
 
 			// map java value type to parser value type
@@ -486,6 +622,7 @@ class UIDefaultsLoader
 			}
 
 			if( valueType == ValueType.UNKNOWN ) {
+				Map<String, ValueType> knownValueTypes = UIDefaultsLoader.knownValueTypes;
 				if( knownValueTypes == null ) {
 					// create lazy
 					knownValueTypes = new HashMap<>();
@@ -506,6 +643,7 @@ class UIDefaultsLoader
 					// Table
 					knownValueTypes.put( "Table.intercellSpacing", ValueType.DIMENSION );
 					knownValueTypes.put( "intercellSpacing", ValueType.DIMENSION );
+					UIDefaultsLoader.knownValueTypes = knownValueTypes;
 				}
 
 				valueType = knownValueTypes.getOrDefault( key, ValueType.UNKNOWN );
@@ -811,10 +949,11 @@ class UIDefaultsLoader
 		if( params.isEmpty() )
 			throw newMissingParametersException( value );
 
-		if( parseColorDepth > 100 )
+		int[] depth = parseColorDepth.get();
+		if( depth[0] > 100 )
 			throw new IllegalArgumentException( "endless recursion in color function '" + value + "'" );
 
-		parseColorDepth++;
+		depth[0]++;
 		try {
 			switch( function ) {
 				case "if":			return parseColorIf( value, params, resolver );
@@ -842,7 +981,7 @@ class UIDefaultsLoader
 				case "over":			return parseColorOver( params, resolver );
 			}
 		} finally {
-			parseColorDepth--;
+			depth[0]--;
 		}
 
 		throw new IllegalArgumentException( "unknown color function '" + value + "'" );
@@ -892,17 +1031,22 @@ class UIDefaultsLoader
 		if( systemColorGetter == null )
 			return null;
 
-		// use containsKey() because value may be null
-		if( systemColorCache != null && systemColorCache.containsKey( name ) )
-			return systemColorCache.get( name );
+		Map<String, ColorUIResource> systemColorCache = UIDefaultsLoader.systemColorCache;
+		if( systemColorCache == null ) {
+			Color color = systemColorGetter.apply( name );
+			return (color != null) ? new ColorUIResource( color ) : null;
+		}
 
-		Color color = systemColorGetter.apply( name );
-		ColorUIResource uiColor = (color != null) ? new ColorUIResource( color ) : null;
+		synchronized( systemColorCache ) {
+			// use containsKey() because value may be null
+			if( systemColorCache.containsKey( name ) )
+				return systemColorCache.get( name );
 
-		if( systemColorCache != null )
+			Color color = systemColorGetter.apply( name );
+			ColorUIResource uiColor = (color != null) ? new ColorUIResource( color ) : null;
 			systemColorCache.put( name, uiColor );
-
-		return uiColor;
+			return uiColor;
+		}
 	}
 
 	/**
@@ -1586,4 +1730,56 @@ class UIDefaultsLoader
 	private static IllegalArgumentException newMissingParametersException( String value ) {
 		return new IllegalArgumentException( "missing parameters in function '" + value + "'" );
 	}
+
+	//---- class LazyParsedValue ----------------------------------------------
+
+	/**
+	 * A lazy value that resolves and parses a properties value on first access.
+	 * May be also parsed in advance on a background thread.
+	 * <p>
+	 * If the parsed value is a lazy value, it is also created.
+	 * If the parsed value is an active value, it is returned as is and
+	 * {@link javax.swing.UIDefaults} stores it in the table.
+	 * {@code FlatUIDefaults.get()} then creates the actual value.
+	 */
+	private static class LazyParsedValue
+		implements LazyValue
+	{
+		private final String key;
+		private final String value;
+		private final Function<String, String> resolver;
+		private final List<ClassLoader> addonClassLoaders;
+
+		private boolean parsed;
+		private Object parsedValue;
+
+		LazyParsedValue( String key, String value, Function<String, String> resolver,
+			List<ClassLoader> addonClassLoaders )
+		{
+			this.key = key;
+			this.value = value;
+			this.resolver = resolver;
+			this.addonClassLoaders = addonClassLoaders;
+		}
+
+		synchronized Object parse() {
+			if( !parsed ) {
+				try {
+					parsedValue = parseValue( key, resolver.apply( value ), null, null, resolver, addonClassLoaders );
+				} catch( RuntimeException ex ) {
+					logParseError( key, value, ex, true );
+				}
+				parsed = true;
+			}
+			return parsedValue;
+		}
+
+		@Override
+		public Object createValue( UIDefaults table ) {
+			Object value = parse();
+			return (value instanceof LazyValue)
+				? ((LazyValue)value).createValue( table )
+				: value;
+		}
+	}
 }
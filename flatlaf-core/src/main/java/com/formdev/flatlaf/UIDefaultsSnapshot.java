@@ -0,0 +1,577 @@
+/*
+ * Copyright 2024 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Insets;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import javax.swing.UIDefaults;
+import javax.swing.plaf.ColorUIResource;
+import javax.swing.plaf.DimensionUIResource;
+import javax.swing.plaf.InsetsUIResource;
+import com.formdev.flatlaf.util.LoggingFacade;
+import com.formdev.flatlaf.util.SystemInfo;
+
+/**
+ * A binary snapshot of the UI defaults loaded from properties files.
+ * <p>
+ * Loading UI defaults from properties files requires reading and merging
+ * several properties files, handling platform specific keys, applying wildcards,
+ * resolving variables and parsing all values.
+ * The snapshot stores the merged properties and the parsed values of all
+ * simple types (colors, numbers, strings, insets and dimensions) in a compact binary file.
+ * All other values (e.g. color functions, fonts, borders or icons) are parsed
+ * from the stored properties when loading the snapshot.
+ * <p>
+ * The snapshot is identified by a key (a hash) computed from all inputs:
+ * FlatLaf version, Java version, platform, light/dark,
+ * Laf classes, addons, custom defaults sources and additional defaults.
+ * For properties files, the CRC (if in a JAR) or the modification time (if a file)
+ * is used, which does not require reading the files.
+ * If one of the inputs changes, the key changes and the snapshot is regenerated.
+ * <p>
+ * Snapshots are only used if enabled with system property
+ * {@link FlatSystemProperties#UI_DEFAULTS_CACHE}, if no system color getter
+ * is set (see {@link FlatLaf#setSystemColorGetter(java.util.function.Function)}),
+ * if no addon overrides {@link FlatDefaultsAddon#getDefaults(Class)}
+ * and if all properties files are in JARs or folders.
+ * <p>
+ * Snapshots are stored in a per-user directory, which is created with owner-only permissions.
+ * Snapshots in directories or files that are not owned by the current user
+ * or that are writable by other users are ignored.
+ *
+ * @author Karl Tauber
+ */
+class UIDefaultsSnapshot
+{
+	private static final int MAGIC = 0x464c5544; // "FLUD"
+	private static final int FORMAT_VERSION = 1;
+	private static final String FILE_EXTENSION = ".uidefaults";
+
+	// value types
+	private static final byte TYPE_NULL = 0;
+	private static final byte TYPE_STRING = 1;
+	private static final byte TYPE_BOOLEAN = 2;
+	private static final byte TYPE_CHARACTER = 3;
+	private static final byte TYPE_INTEGER = 4;
+	private static final byte TYPE_FLOAT = 5;
+	private static final byte TYPE_COLOR = 6;
+	private static final byte TYPE_INSETS = 7;
+	private static final byte TYPE_DIMENSION = 8;
+
+	private final File file;
+	private final String hash;
+
+	/** Keys of values that were loaded from snapshot and need not be parsed. */
+	private Set<String> loadedKeys;
+
+	/** Values parsed while loading properties files. Saved as binary values. */
+	private Map<String, Object> parsedValues;
+
+	/**
+	 * Returns a snapshot for the given inputs, or {@code null} if snapshots are disabled.
+	 */
+	static UIDefaultsSnapshot create( List<Class<?>> lafClasses, List<FlatDefaultsAddon> addons,
+		Properties additionalDefaults, boolean dark )
+	{
+		File dir = getCacheDir();
+		if( dir == null )
+			return null;
+
+		// system colors may change at any time
+		if( FlatLaf.getSystemColorGetter() != null )
+			return null;
+
+		// addons that override FlatDefaultsAddon.getDefaults() may load properties
+		// from other locations (not included in key) or may have side effects
+		if( hasCustomAddonDefaults( addons ) )
+			return null;
+
+		String hash;
+		try {
+			hash = computeHash( lafClasses, addons, additionalDefaults, dark );
+		} catch( Exception ex ) {
+			LoggingFacade.INSTANCE.logConfig( "FlatLaf: Failed to compute UI defaults snapshot key.", ex );
+			return null;
+		}
+
+		String name = lafClasses.get( lafClasses.size() - 1 ).getSimpleName() + '-' + hash.substring( 0, 16 );
+		return new UIDefaultsSnapshot( new File( dir, name + FILE_EXTENSION ), hash );
+	}
+
+	private UIDefaultsSnapshot( File file, String hash ) {
+		this.file = file;
+		this.hash = hash;
+	}
+
+	private static boolean hasCustomAddonDefaults( List<FlatDefaultsAddon> addons ) {
+		for( FlatDefaultsAddon addon : addons ) {
+			try {
+				if( addon.getClass().getMethod( "getDefaults", Class.class ).getDeclaringClass() != FlatDefaultsAddon.class )
+					return true;
+			} catch( NoSuchMethodException ex ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static File getCacheDir() {
+		String value = System.getProperty( FlatSystemProperties.UI_DEFAULTS_CACHE );
+		if( value == null || value.isEmpty() || value.equalsIgnoreCase( "false" ) )
+			return null;
+
+		if( value.equalsIgnoreCase( "true" ) )
+			return new File( System.getProperty( "user.home" ), ".flatlaf" + File.separator + "cache" );
+
+		return new File( value );
+	}
+
+	/**
+	 * Checks whether the given file (or directory) is owned by the current user
+	 * and is not writable by other users.
+	 * Snapshots contain properties that may specify classes to instantiate,
+	 * so snapshots from directories or files that other users may modify are not used.
+	 * <p>
+	 * On file systems that do not support POSIX file permissions (e.g. on Windows),
+	 * access control lists are used, which usually restrict the user home directory
+	 * to the user. In this case, no check is done.
+	 */
+	private static boolean isOwnedByUser( Path path )
+		throws IOException
+	{
+		if( !FileSystems.getDefault().supportedFileAttributeViews().contains( "posix" ) )
+			return true;
+
+		PosixFileAttributes attrs = Files.readAttributes( path, PosixFileAttributes.class, LinkOption.NOFOLLOW_LINKS );
+		UserPrincipal user = path.getFileSystem().getUserPrincipalLookupService()
+			.lookupPrincipalByName( System.getProperty( "user.name" ) );
+		Set<PosixFilePermission> permissions = attrs.permissions();
+		return user.equals( attrs.owner() ) &&
+			!permissions.contains( PosixFilePermission.GROUP_WRITE ) &&
+			!permissions.contains( PosixFilePermission.OTHERS_WRITE );
+	}
+
+	/**
+	 * Creates the given directory (if necessary) and makes it accessible only by the current user.
+	 */
+	private static void createOwnerOnlyDirectory( File dir )
+		throws IOException
+	{
+		if( dir.isDirectory() )
+			return;
+
+		if( !dir.mkdirs() )
+			throw new IOException( "failed to create directory '" + dir + "'" );
+
+		Path path = dir.toPath();
+		if( FileSystems.getDefault().supportedFileAttributeViews().contains( "posix" ) )
+			Files.setPosixFilePermissions( path, PosixFilePermissions.fromString( "rwx------" ) );
+		else {
+			dir.setReadable( false, false );
+			dir.setWritable( false, false );
+			dir.setExecutable( false, false );
+			dir.setReadable( true, true );
+			dir.setWritable( true, true );
+			dir.setExecutable( true, true );
+		}
+	}
+
+	//---- load ---------------------------------------------------------------
+
+	/**
+	 * Loads the snapshot (if up-to-date) and adds all values to the given UI defaults.
+	 *
+	 * @return {@code true} if loaded; {@code false} if snapshot does not exist or is outdated
+	 */
+	boolean load( UIDefaults defaults, List<ClassLoader> addonClassLoaders ) {
+		if( !file.isFile() )
+			return false;
+
+		try {
+			if( !isOwnedByUser( file.getParentFile().toPath() ) || !isOwnedByUser( file.toPath() ) ) {
+				LoggingFacade.INSTANCE.logConfig( "FlatLaf: Ignored UI defaults snapshot '" + file
+					+ "' because it is not owned by the current user or writable by other users.", null );
+				return false;
+			}
+		} catch( IOException ex ) {
+			LoggingFacade.INSTANCE.logConfig( "FlatLaf: Failed to check UI defaults snapshot '" + file + "'.", ex );
+			return false;
+		}
+
+		Properties properties = new Properties();
+		Map<String, Object> values = new LinkedHashMap<>();
+		try( DataInputStream in = new DataInputStream( new BufferedInputStream( new FileInputStream( file ) ) ) ) {
+			if( in.readInt() != MAGIC ||
+				in.readInt() != FORMAT_VERSION ||
+				!hash.equals( in.readUTF() ) )
+			  return false;
+
+			// read properties
+			int propertiesCount = in.readInt();
+			for( int i = 0; i < propertiesCount; i++ )
+				properties.put( in.readUTF(), in.readUTF() );
+
+			// read binary values
+			int valuesCount = in.readInt();
+			for( int i = 0; i < valuesCount; i++ )
+				values.put( in.readUTF(), readValue( in ) );
+		} catch( IOException | RuntimeException ex ) {
+			LoggingFacade.INSTANCE.logConfig( "FlatLaf: Failed to load UI defaults snapshot '" + file + "'.", ex );
+			return false;
+		}
+
+		// add binary values to UI defaults
+		for( Map.Entry<String, Object> e : values.entrySet() )
+			defaults.put( e.getKey(), e.getValue() );
+
+		// parse all other properties and add to UI defaults
+		loadedKeys = values.keySet();
+		UIDefaultsLoader.putDefaults( properties, addonClassLoaders, defaults, this );
+		return true;
+	}
+
+	private static Object readValue( DataInputStream in )
+		throws IOException
+	{
+		byte type = in.readByte();
+		switch( type ) {
+			case TYPE_NULL:			return null;
+			case TYPE_STRING:		return in.readUTF();
+			case TYPE_BOOLEAN:		return in.readBoolean();
+			case TYPE_CHARACTER:	return in.readChar();
+			case TYPE_INTEGER:		return in.readInt();
+			case TYPE_FLOAT:		return in.readFloat();
+
+			case TYPE_COLOR:
+				int rgba = in.readInt();
+				return ((rgba & 0xff000000) == 0xff000000)
+					? new ColorUIResource( rgba )
+					: new ColorUIResource( new Color( rgba, true ) );
+
+			case TYPE_INSETS:
+				return new InsetsUIResource( in.readInt(), in.readInt(), in.readInt(), in.readInt() );
+
+			case TYPE_DIMENSION:
+				return new DimensionUIResource( in.readInt(), in.readInt() );
+
+			default:
+				throw new IOException( "unknown value type " + type );
+		}
+	}
+
+	//---- save ---------------------------------------------------------------
+
+	/**
+	 * Returns whether this snapshot has been loaded.
+	 */
+	boolean isLoaded() {
+		return loadedKeys != null;
+	}
+
+	/**
+	 * Returns whether the value for the given key needs to be parsed.
+	 * This is the case if the value was not loaded from snapshot.
+	 */
+	boolean isParseRequired( String key ) {
+		return loadedKeys == null || !loadedKeys.contains( key );
+	}
+
+	/**
+	 * Invoked when a value has been parsed.
+	 * Remembers values that can be saved in binary form.
+	 */
+	void parsed( String key, Object value ) {
+		if( loadedKeys != null || !isBinaryValue( value ) )
+			return;
+
+		if( parsedValues == null )
+			parsedValues = new LinkedHashMap<>();
+		parsedValues.put( key, value );
+	}
+
+	private static boolean isBinaryValue( Object value ) {
+		if( value == null )
+			return true;
+
+		// check exact classes to exclude subclasses (e.g. DerivedColor)
+		Class<?> cls = value.getClass();
+		return cls == String.class ||
+			cls == Boolean.class ||
+			cls == Character.class ||
+			cls == Integer.class ||
+			cls == Float.class ||
+			cls == ColorUIResource.class ||
+			cls == InsetsUIResource.class ||
+			cls == DimensionUIResource.class;
+	}
+
+	/**
+	 * Saves the given properties and the binary values collected in
+	 * {@link #parsed(String, Object)} to the snapshot file.
+	 * Errors are logged, but not thrown.
+	 */
+	void save( Properties properties ) {
+		File dir = file.getParentFile();
+		File tempFile = null;
+		try {
+			createOwnerOnlyDirectory( dir );
+			if( !isOwnedByUser( dir.toPath() ) )
+				throw new IOException( "directory '" + dir + "' is not owned by the current user or writable by other users" );
+
+			// on POSIX file systems, temporary file is created with owner-only permissions
+			tempFile = Files.createTempFile( dir.toPath(), "flatlaf-", ".tmp" ).toFile();
+			try( DataOutputStream out = new DataOutputStream( new BufferedOutputStream( new FileOutputStream( tempFile ) ) ) ) {
+				out.writeInt( MAGIC );
+				out.writeInt( FORMAT_VERSION );
+				out.writeUTF( hash );
+
+				// write properties
+				out.writeInt( properties.size() );
+				for( Map.Entry<Object, Object> e : properties.entrySet() ) {
+					out.writeUTF( (String) e.getKey() );
+					out.writeUTF( (String) e.getValue() );
+				}
+
+				// write binary values
+				Map<String, Object> values = (parsedValues != null) ? parsedValues : Collections.emptyMap();
+				out.writeInt( values.size() );
+				for( Map.Entry<String, Object> e : values.entrySet() ) {
+					out.writeUTF( e.getKey() );
+					writeValue( out, e.getValue() );
+				}
+			}
+
+			// replace snapshot file
+			try {
+				Files.move( tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+			} catch( AtomicMoveNotSupportedException ex ) {
+				Files.move( tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING );
+			}
+			tempFile = null;
+
+			deleteOutdatedSnapshots();
+		} catch( IOException | RuntimeException ex ) {
+			LoggingFacade.INSTANCE.logConfig( "FlatLaf: Failed to save UI defaults snapshot '" + file + "'.", ex );
+		} finally {
+			if( tempFile != null )
+				tempFile.delete();
+			parsedValues = null;
+		}
+	}
+
+	private static void writeValue( DataOutputStream out, Object value )
+		throws IOException
+	{
+		if( value == null )
+			out.writeByte( TYPE_NULL );
+		else if( value instanceof String ) {
+			out.writeByte( TYPE_STRING );
+			out.writeUTF( (String) value );
+		} else if( value instanceof Boolean ) {
+			out.writeByte( TYPE_BOOLEAN );
+			out.writeBoolean( (Boolean) value );
+		} else if( value instanceof Character ) {
+			out.writeByte( TYPE_CHARACTER );
+			out.writeChar( (Character) value );
+		} else if( value instanceof Integer ) {
+			out.writeByte( TYPE_INTEGER );
+			out.writeInt( (Integer) value );
+		} else if( value instanceof Float ) {
+			out.writeByte( TYPE_FLOAT );
+			out.writeFloat( (Float) value );
+		} else if( value instanceof Color ) {
+			out.writeByte( TYPE_COLOR );
+			out.writeInt( ((Color)value).getRGB() );
+		} else if( value instanceof Insets ) {
+			Insets insets = (Insets) value;
+			out.writeByte( TYPE_INSETS );
+			out.writeInt( insets.top );
+			out.writeInt( insets.left );
+			out.writeInt( insets.bottom );
+			out.writeInt( insets.right );
+		} else if( value instanceof Dimension ) {
+			Dimension dimension = (Dimension) value;
+			out.writeByte( TYPE_DIMENSION );
+			out.writeInt( dimension.width );
+			out.writeInt( dimension.height );
+		} else
+			throw new IllegalArgumentException( "unsupported value type '" + value.getClass().getName() + "'" );
+	}
+
+	/**
+	 * Deletes other snapshots of same Laf, which have been created for other inputs.
+	 */
+	private void deleteOutdatedSnapshots() {
+		String fileName = file.getName();
+		String prefix = fileName.substring( 0, fileName.lastIndexOf( '-' ) + 1 );
+		File[] files = file.getParentFile().listFiles( (dir, name) -> {
+			return name.startsWith( prefix ) && name.endsWith( FILE_EXTENSION ) && !name.equals( fileName );
+		} );
+		if( files == null )
+			return;
+
+		for( File f : files )
+			f.delete();
+	}
+
+	//---- hash ---------------------------------------------------------------
+
+	private static String computeHash( List<Class<?>> lafClasses, List<FlatDefaultsAddon> addons,
+		Properties additionalDefaults, boolean dark )
+			throws IOException, NoSuchAlgorithmException
+	{
+		StringBuilder buf = new StringBuilder( 1000 );
+
+		// versions, platform and light/dark
+		buf.append( FORMAT_VERSION ).append( '\n' )
+			.append( FlatLaf.class.getPackage().getImplementationVersion() ).append( '\n' )
+			.append( System.getProperty( "java.vendor" ) ).append( ' ' )
+			.append( System.getProperty( "java.version" ) ).append( '\n' )
+			.append( SystemInfo.isWindows ? "win" : SystemInfo.isMacOS ? "mac" : SystemInfo.isLinux ? "linux" : "unknown" ).append( '\n' )
+			.append( dark ).append( '\n' );
+
+		// core properties files
+		for( Class<?> lafClass : lafClasses ) {
+			String propertiesName = '/' + lafClass.getName().replace( '.', '/' ) + ".properties";
+			appendResource( buf, lafClass.getName(), lafClass.getResource( propertiesName ) );
+		}
+
+		// addons (use addon class and default addon properties files)
+		for( FlatDefaultsAddon addon : addons ) {
+			Class<?> addonClass = addon.getClass();
+			appendResource( buf, addonClass.getName(), addonClass.getResource( '/' + addonClass.getName().replace( '.', '/' ) + ".class" ) );
+			String packagePath = '/' + addonClass.getPackage().getName().replace( '.', '/' ) + '/';
+			for( Class<?> lafClass : lafClasses )
+				appendResource( buf, null, addonClass.getResource( packagePath + lafClass.getSimpleName() + ".properties" ) );
+		}
+
+		// custom properties files
+		List<Object> customDefaultsSources = FlatLaf.getCustomDefaultsSources();
+		int size = (customDefaultsSources != null) ? customDefaultsSources.size() : 0;
+		for( int i = 0; i < size; i++ ) {
+			Object source = customDefaultsSources.get( i );
+			if( source instanceof String && i + 1 < size ) {
+				String packageName = ((String) source).replace( '.', '/' );
+				ClassLoader classLoader = (ClassLoader) customDefaultsSources.get( ++i );
+				if( classLoader == null )
+					classLoader = FlatLaf.class.getClassLoader();
+
+				for( Class<?> lafClass : lafClasses ) {
+					String propertiesName = packageName + '/' + lafClass.getSimpleName() + ".properties";
+					appendResource( buf, propertiesName, classLoader.getResource( propertiesName ) );
+				}
+			} else if( source instanceof URL ) {
+				for( Class<?> lafClass : lafClasses ) {
+					URL propertiesUrl = new URL( source + lafClass.getSimpleName() + ".properties" );
+					appendResource( buf, null, propertiesUrl );
+				}
+			} else if( source instanceof File ) {
+				for( Class<?> lafClass : lafClasses )
+					appendFile( buf, new File( (File) source, lafClass.getSimpleName() + ".properties" ) );
+			}
+		}
+
+		// additional defaults
+		if( additionalDefaults != null ) {
+			List<String> keys = new ArrayList<>( additionalDefaults.stringPropertyNames() );
+			Collections.sort( keys );
+			for( String key : keys )
+				buf.append( key ).append( '=' ).append( additionalDefaults.getProperty( key ) ).append( '\n' );
+		}
+
+		// compute hash
+		byte[] digest = MessageDigest.getInstance( "SHA-256" ).digest( buf.toString().getBytes( StandardCharsets.UTF_8 ) );
+		StringBuilder hash = new StringBuilder( digest.length * 2 );
+		for( byte b : digest )
+			hash.append( Character.forDigit( (b >> 4) & 0xf, 16 ) ).append( Character.forDigit( b & 0xf, 16 ) );
+		return hash.toString();
+	}
+
+	/**
+	 * Appends an identifier for the content of the given resource, without reading the resource.
+	 * For resources in JARs, the CRC of the JAR entry is used.
+	 * For files, the modification time and length are used.
+	 * Other resources (e.g. from web servers) are not supported.
+	 */
+	private static void appendResource( StringBuilder buf, String name, URL url )
+		throws IOException
+	{
+		if( name != null )
+			buf.append( name ).append( ' ' );
+
+		if( url == null ) {
+			buf.append( "-\n" );
+			return;
+		}
+
+		buf.append( url ).append( ' ' );
+		switch( url.getProtocol() ) {
+			case "file":
+				try {
+					appendFile( buf, new File( url.toURI() ) );
+				} catch( URISyntaxException ex ) {
+					throw new IOException( ex );
+				}
+				break;
+
+			case "jar":
+				JarEntry entry = ((JarURLConnection)url.openConnection()).getJarEntry();
+				buf.append( entry.getCrc() ).append( ' ' ).append( entry.getSize() ).append( '\n' );
+				break;
+
+			default:
+				throw new IOException( "unsupported resource '" + url + "'" );
+		}
+	}
+
+	private static void appendFile( StringBuilder buf, File file ) {
+		buf.append( file ).append( ' ' ).append( file.lastModified() ).append( ' ' ).append( file.length() ).append( '\n' );
+	}
+}
@@ -21,9 +21,13 @@ import java.awt.Color;
 import java.awt.Component;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
 import javax.swing.Icon;
 import javax.swing.plaf.UIResource;
 import com.formdev.flatlaf.ui.FlatUIUtils;
+import com.formdev.flatlaf.util.SoftCache;
 import com.formdev.flatlaf.util.UIScale;
 
 /**
@@ -41,6 +45,8 @@ public abstract class FlatAbstractIcon
 	protected final int height;
 	protected Color color;
 
+	private SoftCache<PaintCacheKey, Image> paintCache;
+
 	public FlatAbstractIcon( int width, int height, Color color ) {
 		this.width = width;
 		this.height = height;
@@ -49,6 +55,11 @@ public abstract class FlatAbstractIcon
 
 	@Override
 	public void paintIcon( Component c, Graphics g, int x, int y ) {
+		// paint cached image (if supported)
+		Object key = getPaintCacheKey( c );
+		if( key != null && paintCachedImage( c, (Graphics2D) g, x, y, key ) )
+			return;
+
 		Graphics2D g2 = (Graphics2D) g.create();
 		try {
 			FlatUIUtils.setRenderingHints( g2 );
@@ -71,6 +82,90 @@ public abstract class FlatAbstractIcon
 
 	protected abstract void paintIcon( Component c, Graphics2D g2 );
 
+	/**
+	 * Returns a key that identifies the appearance of this icon for the given component,
+	 * or {@code null} to paint the icon without caching (the default).
+	 * <p>
+	 * If a key is returned, then the icon is painted once into an image
+	 * (for each key, user scale factor and graphics scale factor) and following paints draw that image,
+	 * which is much faster than painting shapes (e.g. for icons in table cells).
+	 * <p>
+	 * The key must include everything that affects icon painting
+	 * (e.g. state, colors and line widths) and must implement
+	 * {@link Object#equals(Object)} and {@link Object#hashCode()}.
+	 * Icon painting must not exceed the icon bounds.
+	 * Invoke {@link #clearPaintCache()} if other values that affect painting change
+	 * (e.g. arc).
+	 *
+	 * @since 3.5
+	 */
+	protected Object getPaintCacheKey( Component c ) {
+		return null;
+	}
+
+	/**
+	 * Removes all images cached for painting.
+	 *
+	 * @see #getPaintCacheKey(Component)
+	 * @since 3.5
+	 */
+	protected void clearPaintCache() {
+		paintCache = null;
+	}
+
+	private boolean paintCachedImage( Component c, Graphics2D g, int x, int y, Object key ) {
+		// images can be used only if the icon is painted at whole device pixels
+		// (otherwise anti-aliasing would be different)
+		AffineTransform t = g.getTransform();
+		if( (t.getType() & ~(AffineTransform.TYPE_TRANSLATION | AffineTransform.TYPE_MASK_SCALE)) != 0 )
+			return false;
+
+		double scaleX = t.getScaleX();
+		double scaleY = t.getScaleY();
+		int iconWidth = scale( width );
+		int iconHeight = scale( height );
+		double imageWidth = iconWidth * scaleX;
+		double imageHeight = iconHeight * scaleY;
+		if( !isWholeNumber( imageWidth ) || !isWholeNumber( imageHeight ) ||
+			!isWholeNumber( t.getTranslateX() + (x * scaleX) ) ||
+			!isWholeNumber( t.getTranslateY() + (y * scaleY) ) )
+			return false;
+
+		if( paintCache == null )
+			paintCache = new SoftCache<>( 16, 32, false );
+
+		PaintCacheKey cacheKey = new PaintCacheKey( key, UIScale.getUserScaleFactor(), scaleX, scaleY );
+		Image image = paintCache.get( cacheKey );
+		if( image == null ) {
+			BufferedImage bi = new BufferedImage( (int) imageWidth, (int) imageHeight, BufferedImage.TYPE_INT_ARGB );
+			Graphics2D g2 = bi.createGraphics();
+			try {
+				g2.scale( scaleX, scaleY );
+				FlatUIUtils.setRenderingHints( g2 );
+				UIScale.scaleGraphics( g2 );
+
+				if( color != null )
+					g2.setColor( color );
+
+				paintIcon( c, g2 );
+			} finally {
+				g2.dispose();
+			}
+
+			image = bi;
+			paintCache.put( cacheKey, image );
+		}
+
+		// image size in device pixels is equal to icon size,
+		// so drawing image does not scale it
+		g.drawImage( image, x, y, iconWidth, iconHeight, null );
+		return true;
+	}
+
+	private static boolean isWholeNumber( double value ) {
+		return value == Math.rint( value );
+	}
+
 	@Override
 	public int getIconWidth() {
 		return scale( width );
@@ -80,4 +175,42 @@ public abstract class FlatAbstractIcon
 	public int getIconHeight() {
 		return scale( height );
 	}
+
+	//---- class PaintCacheKey ------------------------------------------------
+
+	private static final class PaintCacheKey
+	{
+		private final Object key;
+		private final float userScaleFactor;
+		private final double scaleX;
+		private final double scaleY;
+
+		PaintCacheKey( Object key, float userScaleFactor, double scaleX, double scaleY ) {
+			this.key = key;
+			this.userScaleFactor = userScaleFactor;
+			this.scaleX = scaleX;
+			this.scaleY = scaleY;
+		}
+
+		@Override
+		public boolean equals( Object obj ) {
+			if( !(obj instanceof PaintCacheKey) )
+				return false;
+
+			PaintCacheKey k = (PaintCacheKey) obj;
+			return key.equals( k.key ) &&
+				Float.compare( userScaleFactor, k.userScaleFactor ) == 0 &&
+				Double.compare( scaleX, k.scaleX ) == 0 &&
+				Double.compare( scaleY, k.scaleY ) == 0;
+		}
+
+		@Override
+		public int hashCode() {
+			int hash = key.hashCode();
+			hash = 31 * hash + Float.hashCode( userScaleFactor );
+			hash = 31 * hash + Double.hashCode( scaleX );
+			hash = 31 * hash + Double.hashCode( scaleY );
+			return hash;
+		}
+	}
 }
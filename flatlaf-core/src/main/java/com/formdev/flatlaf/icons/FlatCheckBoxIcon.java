@@ -24,6 +24,7 @@ import java.awt.Graphics2D;
 import java.awt.geom.Path2D;
 import java.awt.geom.RoundRectangle2D;
 import java.util.Map;
+import java.util.Objects;
 import javax.swing.AbstractButton;
 import javax.swing.JComponent;
 import javax.swing.UIManager;
@@ -129,6 +130,15 @@ public class FlatCheckBoxIcon
 	/** @since 2 */ @Styleable protected Color pressedSelectedBackground = getUIColor( "CheckBox.icon.pressedSelectedBackground", style );
 	/** @since 2 */ @Styleable protected Color pressedCheckmarkColor = getUIColor( "CheckBox.icon.pressedCheckmarkColor", style );
 
+	/**
+	 * Whether this icon is painted from cached images. See {@link #getPaintCacheKey(Component)}.
+	 * Enabled by default only for this class and {@link FlatRadioButtonIcon},
+	 * because subclasses may paint depending on component state that is not part of the cache key.
+	 *
+	 * @since 3.5
+	 */
+	protected boolean paintCacheEnabled = (getClass() == FlatCheckBoxIcon.class || getClass() == FlatRadioButtonIcon.class);
+
 	protected String getPropertyPrefix() {
 		return "CheckBox.";
 	}
@@ -164,6 +174,7 @@ public class FlatCheckBoxIcon
 
 	/** @since 2 */
 	public Object applyStyleProperty( String key, Object value ) {
+		clearPaintCache();
 		return FlatStylingSupport.applyToAnnotatedObject( this, key, value );
 	}
 
@@ -219,6 +230,25 @@ public class FlatCheckBoxIcon
 		}
 	}
 
+	/** @since 3.5 */
+	@Override
+	protected Object getPaintCacheKey( Component c ) {
+		if( !paintCacheEnabled || c == null )
+			return null;
+
+		// focus border is painted outside of icon bounds --> can not be cached
+		boolean isFocused = FlatUIUtils.isPermanentFocusOwner( c );
+		if( isFocused && focusWidth > 0 && FlatButtonUI.isFocusPainted( c ) )
+			return null;
+
+		boolean indeterminate = isIndeterminate( c );
+		boolean selected = indeterminate || isSelected( c );
+		return new PaintCacheKey( selected, indeterminate, c.isEnabled(),
+			getBorderColor( c, selected ),
+			getBackground( c, selected ),
+			selected ? getCheckmarkColor( c ) : null );
+	}
+
 	protected void paintFocusBorder( Component c, Graphics2D g ) {
 		// the outer focus border is painted outside of the icon
 		float wh = ICON_SIZE - 1 + (focusWidth * 2);
@@ -298,4 +328,50 @@ public class FlatCheckBoxIcon
 			hoverCheckmarkColor,
 			pressedCheckmarkColor );
 	}
+
+	//---- class PaintCacheKey ------------------------------------------------
+
+	private static final class PaintCacheKey
+	{
+		private final boolean selected;
+		private final boolean indeterminate;
+		private final boolean enabled;
+		private final Color borderColor;
+		private final Color background;
+		private final Color checkmarkColor;
+
+		PaintCacheKey( boolean selected, boolean indeterminate, boolean enabled,
+			Color borderColor, Color background, Color checkmarkColor )
+		{
+			this.selected = selected;
+			this.indeterminate = indeterminate;
+			this.enabled = enabled;
+			this.borderColor = borderColor;
+			this.background = background;
+			this.checkmarkColor = checkmarkColor;
+		}
+
+		@Override
+		public boolean equals( Object obj ) {
+			if( !(obj instanceof PaintCacheKey) )
+				return false;
+
+			PaintCacheKey key = (PaintCacheKey) obj;
+			return selected == key.selected &&
+				indeterminate == key.indeterminate &&
+				enabled == key.enabled &&
+				Objects.equals( borderColor, key.borderColor ) &&
+				Objects.equals( background, key.background ) &&
+				Objects.equals( checkmarkColor, key.checkmarkColor );
+		}
+
+		@Override
+		public int hashCode() {
+			int hash = (selected ? 1 : 0) | (indeterminate ? 2 : 0) | (enabled ? 4 : 0);
+			hash = 31 * hash + Objects.hashCode( borderColor );
+			hash = 31 * hash + Objects.hashCode( background );
+			hash = 31 * hash + Objects.hashCode( checkmarkColor );
+			return hash;
+		}
+	}
 }
@@ -280,6 +280,7 @@ public class FlatButtonUI
 		LookAndFeel.installProperty( b, "iconTextGap", scale( iconTextGap ) );
 
 		MigLayoutVisualPadding.install( b );
+		FlatLaf.registerMnemonicComponent( b );
 	}
 
 	@Override
@@ -290,6 +291,7 @@ public class FlatButtonUI
 		borderShared = null;
 
 		MigLayoutVisualPadding.uninstall( b );
+		FlatLaf.unregisterMnemonicComponent( b );
 		defaults_initialized = false;
 	}
 
@@ -27,6 +27,7 @@ import javax.swing.LookAndFeel;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicCheckBoxMenuItemUI;
 import javax.swing.plaf.basic.BasicMenuItemUI;
+import com.formdev.flatlaf.FlatLaf;
 import com.formdev.flatlaf.ui.FlatStylingSupport.StyleableField;
 import com.formdev.flatlaf.ui.FlatStylingSupport.StyleableLookupProvider;
 import com.formdev.flatlaf.ui.FlatStylingSupport.StyleableUI;
@@ -91,6 +92,8 @@ public class FlatCheckBoxMenuItemUI
 		LookAndFeel.installProperty( menuItem, "iconTextGap", FlatUIUtils.getUIInt( "MenuItem.iconTextGap", 4 ) );
 
 		renderer = createRenderer();
+
+		FlatLaf.registerMnemonicComponent( menuItem );
 	}
 
 	@Override
@@ -98,6 +101,7 @@ public class FlatCheckBoxMenuItemUI
 		super.uninstallDefaults();
 
 		FlatMenuItemRenderer.clearClientProperties( menuItem.getParent() );
+		FlatLaf.unregisterMnemonicComponent( menuItem );
 		renderer = null;
 		oldStyleValues = null;
 	}
@@ -28,6 +28,7 @@ import java.util.Map;
 import com.formdev.flatlaf.ui.FlatStylingSupport.Styleable;
 import com.formdev.flatlaf.ui.FlatStylingSupport.StyleableBorder;
 import com.formdev.flatlaf.util.HiDPIUtils;
+import com.formdev.flatlaf.util.SoftCache;
 import com.formdev.flatlaf.util.UIScale;
 
 /**
@@ -49,6 +50,8 @@ public class FlatDropShadowBorder
 	@Styleable protected Insets shadowInsets;
 	@Styleable protected float shadowOpacity;
 
+	private static final SoftCache<String, Image> shadowImageCache = new SoftCache<>( 16, 16, false );
+
 	private int shadowSize;
 	private Image shadowImage;
 	private Color lastShadowColor;
@@ -134,7 +137,7 @@ public class FlatDropShadowBorder
 			lastSystemScaleFactor != scaleFactor ||
 			lastUserScaleFactor != userScaleFactor )
 		{
-			shadowImage = createShadowImage( shadowColor, shadowSize, shadowOpacity,
+			shadowImage = getShadowImage( shadowColor, shadowSize, shadowOpacity,
 				(float) (scaleFactor * userScaleFactor) );
 			lastShadowColor = shadowColor;
 			lastShadowOpacity = shadowOpacity;
@@ -227,6 +230,20 @@ debug*/
 		return (int) Math.ceil( UIScale.scale( value ) * scaleFactor );
 	}
 
+	/**
+	 * Returns a shadow image from the shared cache, or creates a new one.
+	 * The cache is shared by all drop shadow borders (e.g. of popups),
+	 * so that the image is not created again for each new border.
+	 */
+	private static Image getShadowImage( Color shadowColor, int shadowSize,
+		float shadowOpacity, float scaleFactor )
+	{
+		String key = Integer.toHexString( shadowColor.getRGB() & 0xffffff )
+			+ ' ' + shadowSize + ' ' + shadowOpacity + ' ' + scaleFactor;
+		return shadowImageCache.computeIfAbsent( key,
+			k -> createShadowImage( shadowColor, shadowSize, shadowOpacity, scaleFactor ) );
+	}
+
 	private static BufferedImage createShadowImage( Color shadowColor, int shadowSize,
 		float shadowOpacity, float scaleFactor )
 	{
@@ -19,6 +19,7 @@ package com.formdev.flatlaf.ui;
 import java.awt.BorderLayout;
 import java.awt.Component;
 import java.awt.Dimension;
+import java.awt.EventQueue;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Image;
@@ -30,6 +31,20 @@ import java.beans.PropertyChangeListener;
 import java.io.File;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import javax.swing.AbstractButton;
 import javax.swing.Box;
@@ -162,6 +177,19 @@ import com.formdev.flatlaf.util.UIScale;
 public class FlatFileChooserUI
 	extends MetalFileChooserUI
 {
+	private static final int ICON_LOADER_THREADS = 2;
+	private static final int MAX_PENDING_ICON_REQUESTS = 100;
+
+	/** file extensions that may have individual system icons for each file */
+	private static final Set<String> PER_FILE_ICON_EXTENSIONS = new HashSet<>( Arrays.asList(
+		"exe", "lnk", "url", "ico", "cur", "ani", "scr", "cpl", "msc", "appref-ms", // Windows
+		"app", "icns", "webloc" ) ); // macOS
+
+	/** placeholder used in typeIconCache if there is no system icon for a file type */
+	private static final Icon NO_SYSTEM_ICON = new ImageIcon();
+
+	private static ThreadPoolExecutor iconLoader;
+
 	private final FlatFileView fileView = new FlatFileView();
 	private FlatShortcutsPanel shortcutsPanel;
 
@@ -358,9 +386,39 @@ public class FlatFileChooserUI
 
 	//---- class FlatFileView -------------------------------------------------
 
+	/**
+	 * File view that loads system icons asynchronously.
+	 * <p>
+	 * Getting system icons may be slow (especially on Windows) and opening a directory
+	 * with many files would block the EDT. So this file view returns a placeholder icon
+	 * (the default file or directory icon), loads the system icon in a background thread
+	 * and repaints the file chooser when icons have been loaded.
+	 * The EDT does not access the file system. Whether a file is a directory
+	 * is determined in the background thread. The placeholder icon is guessed from the file name.
+	 * <p>
+	 * System icons of files are cached by (lower case) file extension,
+	 * because all files with the same extension usually have the same icon.
+	 * Directories, drives and files with extensions that may have individual icons
+	 * (e.g. {@code .exe} or {@code .lnk} on Windows) are cached per file.
+	 * <p>
+	 * Requests are processed one after another, most recently requested first
+	 * (which are probably the visible rows). If there are too many pending requests,
+	 * the oldest ones are dropped. They are requested again if their rows are painted again.
+	 */
 	private class FlatFileView
 		extends BasicFileView
 	{
+		// key is lower case file extension; cleared if file system view changes
+		private final Map<String, Icon> typeIconCache = new ConcurrentHashMap<>();
+		private volatile FileSystemView typeIconCacheFsv;
+
+		// pending requests (most recent last)
+		private final LinkedHashMap<File, FileSystemView> requests = new LinkedHashMap<>();
+		private File loadingFile;
+		private boolean loaderScheduled;
+
+		private final AtomicBoolean repaintPending = new AtomicBoolean();
+
 		@Override
 		public Icon getIcon( File f ) {
 			// get cached icon
@@ -368,32 +426,168 @@ public class FlatFileChooserUI
 			if( icon != null )
 				return icon;
 
-			// get system icon
-			if( f != null ) {
-				try {
-					icon = getFileChooser().getFileSystemView().getSystemIcon( f );
-				} catch( NullPointerException ex ) {
-					// Java 21 may throw a NPE for exe files that use default Windows exe icon
+			if( f == null )
+				return super.getIcon( f );
+
+			// clear shared icons of file types if file system view changed
+			FileSystemView fsv = getFileChooser().getFileSystemView();
+			if( fsv != typeIconCacheFsv ) {
+				typeIconCache.clear();
+				typeIconCacheFsv = fsv;
+			}
+
+			// load system icon in background
+			requestSystemIcon( f, fsv );
+
+			// return placeholder icon
+			//   File.isDirectory() may be slow, so guess from file name:
+			//   names without extension are probably directories
+			String name = f.getName();
+			if( name.lastIndexOf( '.' ) <= 0 )
+				return directoryIcon;
+
+			String typeKey = getIconTypeKey( f );
+			Icon typeIcon = (typeKey != null) ? typeIconCache.get( typeKey ) : null;
+			return (typeIcon != null && typeIcon != NO_SYSTEM_ICON) ? typeIcon : fileIcon;
+		}
+
+		private void requestSystemIcon( File f, FileSystemView fsv ) {
+			synchronized( requests ) {
+				if( f.equals( loadingFile ) )
+					return;
+
+				// coalesce multiple requests and move request to end (most recent)
+				requests.remove( f );
+				requests.put( f, fsv );
+
+				// drop oldest requests, which are probably no longer visible
+				if( requests.size() > MAX_PENDING_ICON_REQUESTS ) {
+					Iterator<File> it = requests.keySet().iterator();
+					it.next();
+					it.remove();
 				}
 
-				if( icon != null ) {
+				if( !loaderScheduled ) {
+					try {
+						getIconLoader().execute( this::loadSystemIcons );
+						loaderScheduled = true;
+					} catch( RejectedExecutionException ex ) {
+						requests.clear();
+					}
+				}
+			}
+		}
+
+		/**
+		 * Invoked on background thread.
+		 */
+		private void loadSystemIcons() {
+			for(;;) {
+				File f = null;
+				FileSystemView fsv = null;
+				synchronized( requests ) {
+					// get most recent request
+					for( Map.Entry<File, FileSystemView> e : requests.entrySet() ) {
+						f = e.getKey();
+						fsv = e.getValue();
+					}
+
+					if( f == null ) {
+						loadingFile = null;
+						loaderScheduled = false;
+						return;
+					}
+
+					requests.remove( f );
+					loadingFile = f;
+				}
+
+				loadSystemIcon( f, fsv );
+			}
+		}
+
+		/**
+		 * Invoked on background thread.
+		 */
+		private void loadSystemIcon( File f, FileSystemView fsv ) {
+			try {
+				boolean isDirectory = f.isDirectory();
+				String typeKey = isDirectory ? null : getIconTypeKey( f );
+
+				// get shared icon of file type
+				Icon icon = (typeKey != null && fsv == typeIconCacheFsv) ? typeIconCache.get( typeKey ) : null;
+				if( icon == null ) {
+					try {
+						icon = fsv.getSystemIcon( f );
+					} catch( NullPointerException ex ) {
+						// Java 21 may throw a NPE for exe files that use default Windows exe icon
+					}
+
 					if( icon instanceof ImageIcon )
 						icon = new ScaledImageIcon( (ImageIcon) icon );
-					cacheIcon( f, icon );
-					return icon;
+					if( icon == null )
+						icon = NO_SYSTEM_ICON;
+
+					if( typeKey != null && fsv == typeIconCacheFsv )
+						typeIconCache.put( typeKey, icon );
 				}
-			}
 
-			// get default icon
-			icon = super.getIcon( f );
+				cacheIcon( f, (icon != NO_SYSTEM_ICON) ? icon : getDefaultIcon( f ) );
+			} catch( RuntimeException ex ) {
+				LoggingFacade.INSTANCE.logSevere( "FlatLaf: Failed to get system icon for '" + f + "'.", ex );
+			}
 
-			if( icon instanceof ImageIcon ) {
-				icon = new ScaledImageIcon( (ImageIcon) icon );
-				cacheIcon( f, icon );
+			// repaint file chooser (only once for all icons loaded until repaint)
+			if( repaintPending.compareAndSet( false, true ) ) {
+				EventQueue.invokeLater( () -> {
+					repaintPending.set( false );
+					getFileChooser().repaint();
+				} );
 			}
+		}
 
+		private Icon getDefaultIcon( File f ) {
+			Icon icon = super.getIcon( f );
+			if( icon instanceof ImageIcon )
+				icon = new ScaledImageIcon( (ImageIcon) icon );
 			return icon;
 		}
+
+		@Override
+		public void clearIconCache() {
+			super.clearIconCache();
+			typeIconCache.clear();
+		}
+	}
+
+	/**
+	 * Returns the key used to share the system icon of the given file with other files,
+	 * or {@code null} if the file needs its own icon.
+	 */
+	private static String getIconTypeKey( File f ) {
+		String name = f.getName();
+		int dotIndex = name.lastIndexOf( '.' );
+		if( dotIndex <= 0 ) {
+			// files without extension (and root directories, which have empty names)
+			return name.isEmpty() ? null : "";
+		}
+
+		String ext = name.substring( dotIndex + 1 ).toLowerCase( Locale.ENGLISH );
+		return PER_FILE_ICON_EXTENSIONS.contains( ext ) ? null : ext;
+	}
+
+	private static synchronized Executor getIconLoader() {
+		if( iconLoader == null ) {
+			ThreadPoolExecutor executor = new ThreadPoolExecutor( ICON_LOADER_THREADS, ICON_LOADER_THREADS,
+				1, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+					Thread thread = new Thread( r, "FlatLaf FileChooser Icon Loader" );
+					thread.setDaemon( true );
+					return thread;
+				} );
+			executor.allowCoreThreadTimeOut( true );
+			iconLoader = executor;
+		}
+		return iconLoader;
 	}
 
 	//---- class FlatShortcutsPanel -------------------------------------------
@@ -95,12 +95,15 @@ public class FlatLabelUI
 
 			defaults_initialized = true;
 		}
+
+		FlatLaf.registerMnemonicComponent( c );
 	}
 
 	@Override
 	protected void uninstallDefaults( JLabel c ) {
 		super.uninstallDefaults( c );
 
+		FlatLaf.unregisterMnemonicComponent( c );
 		defaults_initialized = false;
 		oldStyleValues = null;
 	}
@@ -102,6 +102,11 @@ public class FlatListUI
 
 	private Map<String, Object> oldStyleValues;
 
+	// state that does not change while painting cells; computed once in paint()
+	private boolean cellPaintStateValid;
+	private boolean cellPaintFocusOwner;
+	private boolean cellPaintFileList;
+
 	public static ComponentUI createUI( JComponent c ) {
 		return new FlatListUI();
 	}
@@ -291,21 +296,38 @@ public class FlatListUI
 		}
 	}
 
+	@Override
+	public void paint( Graphics g, JComponent c ) {
+		// compute state used in paintCell() once for all cells
+		cellPaintFocusOwner = FlatUIUtils.isPermanentFocusOwner( list );
+		cellPaintFileList = Boolean.TRUE.equals( list.getClientProperty( "List.isFileList" ) );
+		cellPaintStateValid = true;
+		try {
+			super.paint( g, c );
+		} finally {
+			cellPaintStateValid = false;
+		}
+	}
+
 	@SuppressWarnings( "rawtypes" )
 	@Override
 	protected void paintCell( Graphics g, int row, Rectangle rowBounds, ListCellRenderer cellRenderer,
 		ListModel dataModel, ListSelectionModel selModel, int leadIndex )
 	{
+		boolean stateValid = cellPaintStateValid;
 		boolean isSelected = selModel.isSelectedIndex( row );
+		boolean isFocusOwner = stateValid ? cellPaintFocusOwner : FlatUIUtils.isPermanentFocusOwner( list );
 
 		// get renderer component
 		@SuppressWarnings( "unchecked" )
 		Component rendererComponent = cellRenderer.getListCellRendererComponent( list,
 			dataModel.getElementAt( row ), row, isSelected,
-			FlatUIUtils.isPermanentFocusOwner( list ) && (row == leadIndex) );
+			isFocusOwner && (row == leadIndex) );
 
 		//
-		boolean isFileList = Boolean.TRUE.equals( list.getClientProperty( "List.isFileList" ) );
+		boolean isFileList = stateValid
+			? cellPaintFileList
+			: Boolean.TRUE.equals( list.getClientProperty( "List.isFileList" ) );
 		int cx, cw;
 		if( isFileList ) {
 			// see BasicListUI.paintCell()
@@ -27,6 +27,7 @@ import javax.swing.JMenuItem;
 import javax.swing.LookAndFeel;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicMenuItemUI;
+import com.formdev.flatlaf.FlatLaf;
 import com.formdev.flatlaf.ui.FlatStylingSupport.StyleableField;
 import com.formdev.flatlaf.ui.FlatStylingSupport.StyleableLookupProvider;
 import com.formdev.flatlaf.ui.FlatStylingSupport.StyleableUI;
@@ -92,6 +93,8 @@ public class FlatMenuItemUI
 		LookAndFeel.installProperty( menuItem, "iconTextGap", FlatUIUtils.getUIInt( "MenuItem.iconTextGap", 4 ) );
 
 		renderer = createRenderer();
+
+		FlatLaf.registerMnemonicComponent( menuItem );
 	}
 
 	@Override
@@ -99,6 +102,7 @@ public class FlatMenuItemUI
 		super.uninstallDefaults();
 
 		FlatMenuItemRenderer.clearClientProperties( menuItem.getParent() );
+		FlatLaf.unregisterMnemonicComponent( menuItem );
 		renderer = null;
 		oldStyleValues = null;
 	}
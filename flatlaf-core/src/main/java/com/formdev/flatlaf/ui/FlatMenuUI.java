@@ -44,6 +44,7 @@ import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.MenuBarUI;
 import javax.swing.plaf.basic.BasicMenuItemUI;
 import javax.swing.plaf.basic.BasicMenuUI;
+import com.formdev.flatlaf.FlatLaf;
 import com.formdev.flatlaf.ui.FlatStylingSupport.StyleableField;
 import com.formdev.flatlaf.ui.FlatStylingSupport.StyleableLookupProvider;
 import com.formdev.flatlaf.ui.FlatStylingSupport.StyleableUI;
@@ -125,6 +126,8 @@ public class FlatMenuUI
 		menuItem.setRolloverEnabled( true );
 
 		renderer = createRenderer();
+
+		FlatLaf.registerMnemonicComponent( menuItem );
 	}
 
 	@Override
@@ -132,6 +135,7 @@ public class FlatMenuUI
 		super.uninstallDefaults();
 
 		FlatMenuItemRenderer.clearClientProperties( menuItem.getParent() );
+		FlatLaf.unregisterMnemonicComponent( menuItem );
 		renderer = null;
 		oldStyleValues = null;
 	}
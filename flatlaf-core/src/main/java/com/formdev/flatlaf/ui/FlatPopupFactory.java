@@ -41,6 +41,8 @@ import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Objects;
 import javax.swing.JComponent;
 import javax.swing.JLayeredPane;
 import javax.swing.JPanel;
@@ -59,6 +61,7 @@ import javax.swing.border.LineBorder;
 import javax.swing.plaf.basic.BasicComboPopup;
 import com.formdev.flatlaf.FlatClientProperties;
 import com.formdev.flatlaf.util.SystemInfo;
+import com.formdev.flatlaf.util.UIDefaultsCachedValue;
 import com.formdev.flatlaf.util.UIScale;
 
 /**
@@ -73,9 +76,18 @@ public class FlatPopupFactory
 {
 	static final String KEY_POPUP_USES_NATIVE_BORDER = "FlatLaf.internal.FlatPopupFactory.popupUsesNativeBorder";
 
+	private static final int MAX_POOLED_DROP_SHADOW_PANELS = 4;
+
+	private static final UIDefaultsCachedValue<PopupDefaults> popupDefaults = new UIDefaultsCachedValue<>( PopupDefaults::new );
+
 	private MethodHandle java8getPopupMethod;
 	private MethodHandle java9getPopupMethod;
 
+	// drop shadow border shared by all popups and pool of drop shadow panels,
+	// which are reused to avoid creating them (and shadow images) each time a popup is shown
+	private FlatDropShadowBorder dropShadowBorder;
+	private final ArrayDeque<JPanel> dropShadowPanelPool = new ArrayDeque<>();
+
 	@Override
 	public Popup getPopup( Component owner, Component contents, int x, int y )
 		throws IllegalArgumentException
@@ -88,9 +100,10 @@ public class FlatPopupFactory
 
 		fixLinuxWaylandJava21focusIssue( owner );
 
-		boolean forceHeavyWeight = isOptionEnabled( owner, contents, FlatClientProperties.POPUP_FORCE_HEAVY_WEIGHT, "Popup.forceHeavyWeight" );
+		PopupDefaults defaults = popupDefaults.get();
+		boolean forceHeavyWeight = isOptionEnabled( owner, contents, FlatClientProperties.POPUP_FORCE_HEAVY_WEIGHT, defaults.forceHeavyWeight );
 
-		if( !isOptionEnabled( owner, contents, FlatClientProperties.POPUP_DROP_SHADOW_PAINTED, "Popup.dropShadowPainted" ) || SystemInfo.isProjector || SystemInfo.isWebswing )
+		if( !isOptionEnabled( owner, contents, FlatClientProperties.POPUP_DROP_SHADOW_PAINTED, defaults.dropShadowPainted ) || SystemInfo.isProjector || SystemInfo.isWebswing )
 			return new NonFlashingPopup( getPopupForScreenOfOwner( owner, contents, x, y, forceHeavyWeight ), contents );
 
 		// macOS and Linux adds drop shadow to heavy weight popups
@@ -202,8 +215,8 @@ public class FlatPopupFactory
 		}
 	}
 
-	private static boolean isOptionEnabled( Component owner, Component contents, String clientKey, String uiKey ) {
-		Object value = getOption( owner, contents, clientKey, uiKey );
+	private static boolean isOptionEnabled( Component owner, Component contents, String clientKey, Object uiValue ) {
+		Object value = getOption( owner, contents, clientKey, uiValue );
 		return (value instanceof Boolean) ? (Boolean) value : false;
 	}
 
@@ -212,10 +225,10 @@ public class FlatPopupFactory
 	 * <ol>
 	 * <li>client property {@code clientKey} of {@code owner}
 	 * <li>client property {@code clientKey} of {@code contents}
-	 * <li>UI property {@code uiKey}
+	 * <li>UI property value {@code uiValue} (from {@link PopupDefaults})
 	 * </ol>
 	 */
-	private static Object getOption( Component owner, Component contents, String clientKey, String uiKey ) {
+	private static Object getOption( Component owner, Component contents, String clientKey, Object uiValue ) {
 		for( Component c : new Component[] { owner, contents } ) {
 			if( c instanceof JComponent ) {
 				Object value = ((JComponent)c).getClientProperty( clientKey );
@@ -224,7 +237,7 @@ public class FlatPopupFactory
 			}
 		}
 
-		return UIManager.get( uiKey );
+		return uiValue;
 	}
 
 	//---- tooltips -----------------------------------------------------------
@@ -378,24 +391,26 @@ public class FlatPopupFactory
 	}
 
 	private static int getBorderCornerRadius( Component owner, Component contents ) {
-		String uiKey =
-			(contents instanceof BasicComboPopup) ? "ComboBox.borderCornerRadius" :
-			(contents instanceof JPopupMenu) ? "PopupMenu.borderCornerRadius" :
-			(contents instanceof JToolTip) ? "ToolTip.borderCornerRadius" :
-			"Popup.borderCornerRadius";
-
-		Object value = getOption( owner, contents, FlatClientProperties.POPUP_BORDER_CORNER_RADIUS, uiKey );
+		PopupDefaults defaults = popupDefaults.get();
+		Object uiValue =
+			(contents instanceof BasicComboPopup) ? defaults.comboBoxBorderCornerRadius :
+			(contents instanceof JPopupMenu) ? defaults.popupMenuBorderCornerRadius :
+			(contents instanceof JToolTip) ? defaults.toolTipBorderCornerRadius :
+			defaults.popupBorderCornerRadius;
+
+		Object value = getOption( owner, contents, FlatClientProperties.POPUP_BORDER_CORNER_RADIUS, uiValue );
 		return (value instanceof Integer) ? (Integer) value : 0;
 	}
 
 	private static float getRoundedBorderWidth( Component owner, Component contents ) {
-		String uiKey =
-			(contents instanceof BasicComboPopup) ? "ComboBox.roundedBorderWidth" :
-			(contents instanceof JPopupMenu) ? "PopupMenu.roundedBorderWidth" :
-			(contents instanceof JToolTip) ? "ToolTip.roundedBorderWidth" :
-			"Popup.roundedBorderWidth";
-
-		Object value = getOption( owner, contents, FlatClientProperties.POPUP_ROUNDED_BORDER_WIDTH, uiKey );
+		PopupDefaults defaults = popupDefaults.get();
+		Object uiValue =
+			(contents instanceof BasicComboPopup) ? defaults.comboBoxRoundedBorderWidth :
+			(contents instanceof JPopupMenu) ? defaults.popupMenuRoundedBorderWidth :
+			(contents instanceof JToolTip) ? defaults.toolTipRoundedBorderWidth :
+			defaults.popupRoundedBorderWidth;
+
+		Object value = getOption( owner, contents, FlatClientProperties.POPUP_ROUNDED_BORDER_WIDTH, uiValue );
 		return (value instanceof Number) ? ((Number)value).floatValue() : 0;
 	}
 
@@ -578,6 +593,7 @@ public class FlatPopupFactory
 		private ComponentListener mediumPanelListener;
 
 		// heavy weight
+		private JPanel heavyWeightDropShadowPanel;
 		private Popup dropShadowDelegate;
 		private Window dropShadowWindow;
 		private Color oldDropShadowWindowBackground;
@@ -600,9 +616,8 @@ public class FlatPopupFactory
 				// the drop shadow and is positioned behind the popup window.
 
 				// create panel that paints the drop shadow
-				JPanel dropShadowPanel = new JPanel();
-				dropShadowPanel.setBorder( createDropShadowBorder() );
-				dropShadowPanel.setOpaque( false );
+				JPanel dropShadowPanel = acquireDropShadowPanel();
+				heavyWeightDropShadowPanel = dropShadowPanel;
 
 				// set preferred size of drop shadow panel
 				Dimension prefSize = popupWindow.getPreferredSize();
@@ -634,9 +649,7 @@ public class FlatPopupFactory
 				mediumWeightPanel = (Panel) SwingUtilities.getAncestorOfClass( Panel.class, contents );
 				if( mediumWeightPanel != null ) {
 					// medium weight popup
-					dropShadowPanel = new JPanel();
-					dropShadowPanel.setBorder( createDropShadowBorder() );
-					dropShadowPanel.setOpaque( false );
+					dropShadowPanel = acquireDropShadowPanel();
 					dropShadowPanel.setSize( FlatUIUtils.addInsets( mediumWeightPanel.getSize(), dropShadowPanel.getInsets() ) );
 				} else {
 					// light weight popup
@@ -647,18 +660,48 @@ public class FlatPopupFactory
 					lightComp = (JComponent) p;
 					oldBorder = lightComp.getBorder();
 					oldOpaque = lightComp.isOpaque();
-					lightComp.setBorder( createDropShadowBorder() );
+					lightComp.setBorder( getDropShadowBorder() );
 					lightComp.setOpaque( false );
 					lightComp.setSize( lightComp.getPreferredSize() );
 				}
 			}
 		}
 
-		private Border createDropShadowBorder() {
-			return new FlatDropShadowBorder(
-				UIManager.getColor( "Popup.dropShadowColor" ),
-				UIManager.getInsets( "Popup.dropShadowInsets" ),
-				FlatUIUtils.getUIFloat( "Popup.dropShadowOpacity", 0.5f ) );
+		private JPanel acquireDropShadowPanel() {
+			JPanel panel = dropShadowPanelPool.poll();
+			if( panel == null ) {
+				panel = new JPanel();
+				panel.setOpaque( false );
+			}
+			panel.setBorder( getDropShadowBorder() );
+			panel.setVisible( true );
+			return panel;
+		}
+
+		private void releaseDropShadowPanel( JPanel panel ) {
+			// reuse panel only if it was removed from popup window or layered pane
+			if( panel.getParent() != null || dropShadowPanelPool.size() >= MAX_POOLED_DROP_SHADOW_PANELS )
+				return;
+
+			panel.setPreferredSize( null );
+			dropShadowPanelPool.push( panel );
+		}
+
+		private Border getDropShadowBorder() {
+			PopupDefaults defaults = popupDefaults.get();
+			Color shadowColor = defaults.dropShadowColor;
+			Insets shadowInsets = defaults.dropShadowInsets;
+			float shadowOpacity = defaults.dropShadowOpacity;
+
+			// create new border only if UI defaults have changed
+			if( dropShadowBorder == null ||
+				!Objects.equals( dropShadowBorder.shadowColor, shadowColor ) ||
+				!Objects.equals( dropShadowBorder.shadowInsets, shadowInsets ) ||
+				dropShadowBorder.shadowOpacity != shadowOpacity )
+			{
+				dropShadowBorder = new FlatDropShadowBorder( shadowColor, shadowInsets, shadowOpacity );
+			}
+			return dropShadowBorder;
 		}
 
 		@Override
@@ -686,8 +729,14 @@ public class FlatPopupFactory
 				dropShadowDelegate = null;
 			}
 
+			if( heavyWeightDropShadowPanel != null ) {
+				releaseDropShadowPanel( heavyWeightDropShadowPanel );
+				heavyWeightDropShadowPanel = null;
+			}
+
 			if( mediumWeightPanel != null ) {
 				hideMediumWeightDropShadow();
+				releaseDropShadowPanel( dropShadowPanel );
 				dropShadowPanel = null;
 				mediumWeightPanel = null;
 			}
@@ -777,4 +826,30 @@ public class FlatPopupFactory
 				dropShadowPanel.setSize( FlatUIUtils.addInsets( mediumWeightPanel.getSize(), dropShadowPanel.getInsets() ) );
 		}
 	}
+
+	//---- class PopupDefaults ------------------------------------------------
+
+	/**
+	 * UI defaults values used for popups.
+	 * Re-created (via {@link UIDefaultsCachedValue}) if UI defaults change.
+	 */
+	private static class PopupDefaults
+	{
+		final Object forceHeavyWeight = UIManager.get( "Popup.forceHeavyWeight" );
+		final Object dropShadowPainted = UIManager.get( "Popup.dropShadowPainted" );
+
+		final Object popupBorderCornerRadius = UIManager.get( "Popup.borderCornerRadius" );
+		final Object comboBoxBorderCornerRadius = UIManager.get( "ComboBox.borderCornerRadius" );
+		final Object popupMenuBorderCornerRadius = UIManager.get( "PopupMenu.borderCornerRadius" );
+		final Object toolTipBorderCornerRadius = UIManager.get( "ToolTip.borderCornerRadius" );
+
+		final Object popupRoundedBorderWidth = UIManager.get( "Popup.roundedBorderWidth" );
+		final Object comboBoxRoundedBorderWidth = UIManager.get( "ComboBox.roundedBorderWidth" );
+		final Object popupMenuRoundedBorderWidth = UIManager.get( "PopupMenu.roundedBorderWidth" );
+		final Object toolTipRoundedBorderWidth = UIManager.get( "ToolTip.roundedBorderWidth" );
+
+		final Color dropShadowColor = UIManager.getColor( "Popup.dropShadowColor" );
+		final Insets dropShadowInsets = UIManager.getInsets( "Popup.dropShadowInsets" );
+		final float dropShadowOpacity = FlatUIUtils.getUIFloat( "Popup.dropShadowOpacity", 0.5f );
+	}
 }
@@ -42,6 +42,7 @@ import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicButtonListener;
 import javax.swing.plaf.basic.BasicRadioButtonUI;
 import com.formdev.flatlaf.FlatClientProperties;
+import com.formdev.flatlaf.FlatLaf;
 import com.formdev.flatlaf.icons.FlatCheckBoxIcon;
 import com.formdev.flatlaf.ui.FlatStylingSupport.Styleable;
 import com.formdev.flatlaf.ui.FlatStylingSupport.StyleableUI;
@@ -139,6 +140,7 @@ public class FlatRadioButtonUI
 		LookAndFeel.installProperty( b, "iconTextGap", scale( iconTextGap ) );
 
 		MigLayoutVisualPadding.install( b, null );
+		FlatLaf.registerMnemonicComponent( b );
 	}
 
 	@Override
@@ -148,6 +150,7 @@ public class FlatRadioButtonUI
 		oldStyleValues = null;
 
 		MigLayoutVisualPadding.uninstall( b );
+		FlatLaf.unregisterMnemonicComponent( b );
 		defaults_initialized = false;
 	}
 
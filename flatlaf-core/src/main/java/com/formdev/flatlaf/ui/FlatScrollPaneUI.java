@@ -56,6 +56,7 @@ import com.formdev.flatlaf.FlatClientProperties;
 import com.formdev.flatlaf.ui.FlatStylingSupport.Styleable;
 import com.formdev.flatlaf.ui.FlatStylingSupport.StyleableUI;
 import com.formdev.flatlaf.util.LoggingFacade;
+import com.formdev.flatlaf.util.UIDefaultsCachedValue;
 import com.formdev.flatlaf.util.UIScale;
 
 /**
@@ -82,6 +83,9 @@ public class FlatScrollPaneUI
 	// only used via styling (not in UI defaults, but has likewise client properties)
 	/** @since 2 */ @Styleable protected Boolean showButtons;
 
+	private static final UIDefaultsCachedValue<Boolean> smoothScrollingValue
+		= new UIDefaultsCachedValue<>( () -> UIManager.getBoolean( "ScrollPane.smoothScrolling" ) );
+
 	private Handler handler;
 
 	private Map<String, Object> oldStyleValues;
@@ -174,10 +178,11 @@ public class FlatScrollPaneUI
 		if( smoothScrolling instanceof Boolean )
 			return (Boolean) smoothScrolling;
 
-		// Note: Getting UI value "ScrollPane.smoothScrolling" here to allow
+		// Note: Getting UI value "ScrollPane.smoothScrolling" here (cached value,
+		// which is re-computed if UI defaults change) to allow
 		// applications to turn smooth scrolling on or off at any time
 		// (e.g. in application options dialog).
-		return UIManager.getBoolean( "ScrollPane.smoothScrolling" );
+		return smoothScrollingValue.get();
 	}
 
 	private void mouseWheelMovedSmooth( MouseWheelEvent e ) {
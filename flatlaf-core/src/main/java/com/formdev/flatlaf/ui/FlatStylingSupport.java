@@ -16,26 +16,35 @@
 
 package com.formdev.flatlaf.ui;
 
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Insets;
+import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Repeatable;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import javax.swing.Icon;
 import javax.swing.JComponent;
+import javax.swing.LookAndFeel;
 import javax.swing.UIManager;
 import javax.swing.border.Border;
 import com.formdev.flatlaf.FlatClientProperties;
@@ -51,6 +60,12 @@ import com.formdev.flatlaf.util.SystemInfo;
  */
 public class FlatStylingSupport
 {
+	private static final int PARSE_CACHE_MAX_SIZE = 500;
+
+	private static final Object parseCacheLock = new Object();
+	private static Map<String, Map<String, Object>> parseCache;
+	private static int parseCacheGeneration;
+
 	/**
 	 * Indicates that a field is intended to be used by FlatLaf styling support.
 	 * <p>
@@ -238,21 +253,24 @@ public class FlatStylingSupport
 
 		// convert first style to map
 		Map<String, Object> map1 = (style1 instanceof String)
-			? parse( (String) style1 )
+			? parseCached( (String) style1 )
 			: (Map<String, Object>) style1;
 		if( map1 == null )
 			return style2;
 
 		// convert second style to map
 		Map<String, Object> map2 = (style2 instanceof String)
-			? parse( (String) style2 )
+			? parseCached( (String) style2 )
 			: (Map<String, Object>) style2;
 		if( map2 == null )
 			return style1;
 
-		// join two maps
-		Map<String, Object> map = new HashMap<>( map1 );
-		map.putAll( map2 );
+		// join two maps (copy mutable values because maps may be shared)
+		Map<String, Object> map = new HashMap<>( map1.size() + map2.size() );
+		for( Map.Entry<String, Object> e : map1.entrySet() )
+			map.put( e.getKey(), copyMutableValue( e.getValue() ) );
+		for( Map.Entry<String, Object> e : map2.entrySet() )
+			map.put( e.getKey(), copyMutableValue( e.getValue() ) );
 		return map;
 	}
 
@@ -307,17 +325,18 @@ public class FlatStylingSupport
 			if( StringUtils.isTrimmedEmpty( str ) )
 				return null;
 
-			return applyStyle( parse( str ), applyProperty );
+			Map<String, Object> map = parseCached( str );
+			return (map != null) ? applyStyle( map, true, applyProperty ) : null;
 		} else if( style instanceof Map ) {
 			// handle style of type Map
 			@SuppressWarnings( "unchecked" )
 			Map<String, Object> map = (Map<String, Object>) style;
-			return applyStyle( map, applyProperty );
+			return applyStyle( map, false, applyProperty );
 		} else
 			return null;
 	}
 
-	private static Map<String, Object> applyStyle( Map<String, Object> style,
+	private static Map<String, Object> applyStyle( Map<String, Object> style, boolean shared,
 		BiFunction<String, Object, Object> applyProperty )
 	{
 		if( style.isEmpty() )
@@ -342,12 +361,24 @@ public class FlatStylingSupport
 					continue;
 			}
 
+			// copy mutable values of shared (cached) styles
+			if( shared )
+				newValue = copyMutableValue( newValue );
+
 			Object oldValue = applyProperty.apply( key, newValue );
 			oldValues.put( key, oldValue );
 		}
 		return oldValues;
 	}
 
+	private static Object copyMutableValue( Object value ) {
+		if( value instanceof Insets )
+			return ((Insets)value).clone();
+		if( value instanceof Dimension )
+			return ((Dimension)value).clone();
+		return value;
+	}
+
 	/**
 	 * Parses styles in CSS syntax ("key1: value1; key2: value2; ..."),
 	 * converts the value strings into binary and returns all key/value pairs as map.
@@ -388,6 +419,99 @@ public class FlatStylingSupport
 		return map;
 	}
 
+	/**
+	 * Same as {@link #parse(String)}, but caches parsed styles so that styling
+	 * many components with identical styles (e.g. renderers or large forms)
+	 * parses each style only once.
+	 * <p>
+	 * The returned map is shared and unmodifiable.
+	 * Only styles that contain immutable values or insets and dimensions
+	 * (which are copied when applied) are cached.
+	 * Styles that contain other values (e.g. borders or icons) are parsed on each invocation.
+	 * The cache is cleared when the look and feel or UI defaults change
+	 * because parsed values may depend on them (e.g. references or colors).
+	 */
+	static Map<String, Object> parseCached( String style )
+		throws IllegalArgumentException
+	{
+		if( style == null )
+			return null;
+
+		int generation;
+		synchronized( parseCacheLock ) {
+			if( parseCache == null )
+				initParseCache();
+			else if( parseCache.containsKey( style ) )
+				return parseCache.get( style );
+			generation = parseCacheGeneration;
+		}
+
+		// parse outside of lock because parsing may access UI defaults
+		Map<String, Object> map = parse( style );
+		if( map != null ) {
+			// do not cache styles that contain mutable values, which can not be copied
+			if( !isCacheable( map ) )
+				return map;
+
+			map = Collections.unmodifiableMap( map );
+		}
+
+		synchronized( parseCacheLock ) {
+			// do not cache if UI defaults changed while parsing
+			if( generation == parseCacheGeneration )
+				parseCache.put( style, map );
+		}
+		return map;
+	}
+
+	private static boolean isCacheable( Map<String, Object> map ) {
+		for( Object value : map.values() ) {
+			if( value != null &&
+				!(value instanceof String) &&
+				!(value instanceof Number) &&
+				!(value instanceof Boolean) &&
+				!(value instanceof Character) &&
+				!(value instanceof Color) &&
+				!(value instanceof Font) &&
+				!(value instanceof Insets) &&
+				!(value instanceof Dimension) )
+				return false;
+		}
+		return true;
+	}
+
+	private static void initParseCache() {
+		parseCache = new LinkedHashMap<String, Map<String, Object>>( 64, 0.75f, true ) {
+			@Override
+			protected boolean removeEldestEntry( Map.Entry<String, Map<String, Object>> eldest ) {
+				return size() > PARSE_CACHE_MAX_SIZE;
+			}
+		};
+
+		// listener to clear cache if LaF changed or UI defaults changed
+		PropertyChangeListener listener = new PropertyChangeListener() {
+			@Override
+			public void propertyChange( PropertyChangeEvent e ) {
+				// it is not necessary (and possible) to remove listener of old LaF defaults
+				if( "lookAndFeel".equals( e.getPropertyName() ) && e.getNewValue() instanceof LookAndFeel )
+					UIManager.getLookAndFeelDefaults().addPropertyChangeListener( this );
+
+				clearParseCache();
+			}
+		};
+		UIManager.addPropertyChangeListener( listener );
+		UIManager.getDefaults().addPropertyChangeListener( listener );
+		UIManager.getLookAndFeelDefaults().addPropertyChangeListener( listener );
+	}
+
+	static void clearParseCache() {
+		synchronized( parseCacheLock ) {
+			if( parseCache != null )
+				parseCache.clear();
+			parseCacheGeneration++;
+		}
+	}
+
 	private static Object parseValue( String key, String value )
 		throws IllegalArgumentException
 	{
@@ -418,12 +542,18 @@ public class FlatStylingSupport
 	public static Object applyToAnnotatedObject( Object obj, String key, Object value )
 		throws UnknownStyleException, IllegalArgumentException
 	{
-		String fieldName = keyToFieldName( key );
+		StyleableAccessors accessors = StyleableAccessors.get( obj.getClass() );
+		FieldAccessor accessor = accessors.annotatedFields.get( key );
+		if( accessor == null ) {
+			String fieldName = keyToFieldName( key );
+			accessor = findField( obj.getClass(), fieldName, key, field -> {
+				Styleable styleable = field.getAnnotation( Styleable.class );
+				return styleable != null && styleable.dot() == (fieldName != key);
+			} );
+			accessors.annotatedFields.put( key, accessor );
+		}
 
-		return applyToField( obj, fieldName, key, value, field -> {
-			Styleable styleable = field.getAnnotation( Styleable.class );
-			return styleable != null && styleable.dot() == (fieldName != key);
-		} );
+		return accessor.apply( obj, key, value );
 	}
 
 	private static String keyToFieldName( String key ) {
@@ -451,70 +581,53 @@ public class FlatStylingSupport
 	static Object applyToField( Object obj, String fieldName, String key, Object value )
 		throws UnknownStyleException, IllegalArgumentException
 	{
-		return applyToField( obj, fieldName, key, value, null );
+		StyleableAccessors accessors = StyleableAccessors.get( obj.getClass() );
+		String accessorKey = fieldName.equals( key ) ? key : fieldName + ' ' + key;
+		FieldAccessor accessor = accessors.fields.get( accessorKey );
+		if( accessor == null ) {
+			accessor = findField( obj.getClass(), fieldName, key, null );
+			accessors.fields.put( accessorKey, accessor );
+		}
+
+		return accessor.apply( obj, key, value );
 	}
 
-	private static Object applyToField( Object obj, String fieldName, String key, Object value, Predicate<Field> predicate )
-		throws UnknownStyleException, IllegalArgumentException
+	/**
+	 * Searches the class hierarchy for the given field.
+	 * Invoked only once per class and key. The result is cached in {@link StyleableAccessors}.
+	 */
+	private static FieldAccessor findField( Class<?> cls, String fieldName, String key, Predicate<Field> predicate )
+		throws IllegalArgumentException
 	{
-		Class<?> cls = obj.getClass();
-
 		for(;;) {
 			try {
 				Field f = cls.getDeclaredField( fieldName );
-				if( predicate == null || predicate.test( f ) )
-					return applyToField( f, obj, value, false );
+				if( predicate == null || predicate.test( f ) ) {
+					checkValidField( f );
+					return new FieldAccessor( f, false );
+				}
 			} catch( NoSuchFieldException ex ) {
 				// field not found in class --> try superclass
 			}
 
 			for( StyleableField styleableField : cls.getAnnotationsByType( StyleableField.class ) ) {
-				if( key.equals( styleableField.key() ) )
-					return applyToField( getStyleableField( styleableField ), obj, value, true );
+				if( key.equals( styleableField.key() ) ) {
+					Field f = getStyleableField( styleableField );
+					checkValidField( f );
+					return new FieldAccessor( f, true );
+				}
 			}
 
 			cls = cls.getSuperclass();
 			if( cls == null )
-				throw new UnknownStyleException( key );
+				return FieldAccessor.NOT_FOUND;
 
 			if( predicate != null ) {
 				String superclassName = cls.getName();
 				if( superclassName.startsWith( "java." ) || superclassName.startsWith( "javax." ) )
-					throw new UnknownStyleException( key );
-			}
-		}
-	}
-
-	private static Object applyToField( Field f, Object obj, Object value, boolean useMethodHandles )
-		throws IllegalArgumentException
-	{
-		checkValidField( f );
-
-		if( useMethodHandles && obj instanceof StyleableLookupProvider ) {
-			try {
-				// use method handles to access protected fields in JRE in modular applications
-				MethodHandles.Lookup lookup = ((StyleableLookupProvider)obj).getLookupForStyling();
-
-				// get old value and set new value
-				Object oldValue = lookup.unreflectGetter( f ).invoke( obj );
-				lookup.unreflectSetter( f ).invoke( obj, convertToEnum( value, f.getType() ) );
-				return oldValue;
-			} catch( Throwable ex ) {
-				throw newFieldAccessFailed( f, ex );
+					return FieldAccessor.NOT_FOUND;
 			}
 		}
-
-		try {
-			// necessary to access protected fields in other packages
-			f.setAccessible( true );
-
-			// get old value and set new value
-			Object oldValue = f.get( obj );
-			f.set( obj, convertToEnum( value, f.getType() ) );
-			return oldValue;
-		} catch( IllegalAccessException ex ) {
-			throw newFieldAccessFailed( f, ex );
-		}
 	}
 
 	private static Object getFieldValue( Field f, Object obj, boolean useMethodHandles )
@@ -587,25 +700,43 @@ public class FlatStylingSupport
 		throws UnknownStyleException, IllegalArgumentException
 	{
 		Class<?> cls = obj.getClass();
-		String getterName = buildMethodName( "get", name );
-		String setterName = buildMethodName( "set", name );
+		StyleableAccessors accessors = StyleableAccessors.get( cls );
+		Method[] methods = accessors.properties.get( name );
+		if( methods == null ) {
+			methods = findPropertyMethods( cls, name );
+			accessors.properties.put( name, methods );
+		}
+		if( methods.length == 0 )
+			throw new UnknownStyleException( name );
 
+		Method getter = methods[0];
+		Method setter = methods[1];
+		try {
+			Object oldValue = getter.invoke( obj );
+			setter.invoke( obj, convertToEnum( value, getter.getReturnType() ) );
+			return oldValue;
+		} catch( Exception ex ) {
+			throw new IllegalArgumentException( "failed to invoke property methods '" + cls.getName() + "."
+				+ buildMethodName( "get", name ) + "()' or '" + buildMethodName( "set", name ) + "(...)'", ex );
+		}
+	}
+
+	/**
+	 * Returns an array containing getter and setter method of the given property,
+	 * or an empty array if the property does not exist.
+	 */
+	private static Method[] findPropertyMethods( Class<?> cls, String name ) {
 		try {
 			Method getter;
 			try {
-				getter = cls.getMethod( getterName );
+				getter = cls.getMethod( buildMethodName( "get", name ) );
 			} catch( NoSuchMethodException ex ) {
 				getter = cls.getMethod( buildMethodName( "is", name ) );
 			}
-			Method setter = cls.getMethod( setterName, getter.getReturnType() );
-			Object oldValue = getter.invoke( obj );
-			setter.invoke( obj, convertToEnum( value, getter.getReturnType() ) );
-			return oldValue;
+			Method setter = cls.getMethod( buildMethodName( "set", name ), getter.getReturnType() );
+			return new Method[] { getter, setter };
 		} catch( NoSuchMethodException ex ) {
-			throw new UnknownStyleException( name );
-		} catch( Exception ex ) {
-			throw new IllegalArgumentException( "failed to invoke property methods '" + cls.getName() + "."
-				+ getterName + "()' or '" + setterName + "(...)'", ex );
+			return new Method[0];
 		}
 	}
 
@@ -762,9 +893,21 @@ public class FlatStylingSupport
 	 */
 	public static void collectAnnotatedStyleableInfos( Object obj, Map<String, Class<?>> infos )
 		throws IllegalArgumentException
+	{
+		StyleableAccessors accessors = StyleableAccessors.get( obj.getClass() );
+		Map<String, Class<?>> annotatedInfos = accessors.annotatedInfos;
+		if( annotatedInfos == null ) {
+			annotatedInfos = new LinkedHashMap<>();
+			collectAnnotatedStyleableInfos( obj.getClass(), annotatedInfos );
+			accessors.annotatedInfos = annotatedInfos = Collections.unmodifiableMap( annotatedInfos );
+		}
+		infos.putAll( annotatedInfos );
+	}
+
+	private static void collectAnnotatedStyleableInfos( Class<?> cls, Map<String, Class<?>> infos )
+		throws IllegalArgumentException
 	{
 		HashSet<String> processedFields = new HashSet<>();
-		Class<?> cls = obj.getClass();
 
 		for(;;) {
 			// find fields annotated with 'Styleable'
@@ -903,6 +1046,93 @@ public class FlatStylingSupport
 		}
 	}
 
+	//---- class StyleableAccessors -------------------------------------------
+
+	/**
+	 * Per-class cache of styleable fields and properties.
+	 * The class hierarchy of a styled object is searched only once for each key,
+	 * which avoids walking the class hierarchy and inspecting annotations
+	 * each time a style is applied.
+	 */
+	private static class StyleableAccessors
+	{
+		private static final ClassValue<StyleableAccessors> classAccessors = new ClassValue<StyleableAccessors>() {
+			@Override
+			protected StyleableAccessors computeValue( Class<?> type ) {
+				return new StyleableAccessors();
+			}
+		};
+
+		final Map<String, FieldAccessor> annotatedFields = new ConcurrentHashMap<>();
+		final Map<String, FieldAccessor> fields = new ConcurrentHashMap<>();
+		final Map<String, Method[]> properties = new ConcurrentHashMap<>();
+		volatile Map<String, Class<?>> annotatedInfos;
+
+		static StyleableAccessors get( Class<?> cls ) {
+			return classAccessors.get( cls );
+		}
+	}
+
+	//---- class FieldAccessor ------------------------------------------------
+
+	private static class FieldAccessor
+	{
+		static final FieldAccessor NOT_FOUND = new FieldAccessor( null, false );
+
+		private final Field f;
+		private final boolean useMethodHandles;
+
+		// method handles are created on first use because the lookup is provided by the styled object
+		private MethodHandle getter;
+		private MethodHandle setter;
+		private boolean accessible;
+
+		FieldAccessor( Field f, boolean useMethodHandles ) {
+			this.f = f;
+			this.useMethodHandles = useMethodHandles;
+		}
+
+		Object apply( Object obj, String key, Object value )
+			throws UnknownStyleException, IllegalArgumentException
+		{
+			if( f == null )
+				throw new UnknownStyleException( key );
+
+			if( useMethodHandles && obj instanceof StyleableLookupProvider ) {
+				try {
+					// use method handles to access protected fields in JRE in modular applications
+					if( getter == null || setter == null ) {
+						MethodHandles.Lookup lookup = ((StyleableLookupProvider)obj).getLookupForStyling();
+						setter = lookup.unreflectSetter( f );
+						getter = lookup.unreflectGetter( f );
+					}
+
+					// get old value and set new value
+					Object oldValue = getter.invoke( obj );
+					setter.invoke( obj, convertToEnum( value, f.getType() ) );
+					return oldValue;
+				} catch( Throwable ex ) {
+					throw newFieldAccessFailed( f, ex );
+				}
+			}
+
+			try {
+				// necessary to access protected fields in other packages
+				if( !accessible ) {
+					f.setAccessible( true );
+					accessible = true;
+				}
+
+				// get old value and set new value
+				Object oldValue = f.get( obj );
+				f.set( obj, convertToEnum( value, f.getType() ) );
+				return oldValue;
+			} catch( IllegalAccessException ex ) {
+				throw newFieldAccessFailed( f, ex );
+			}
+		}
+	}
+
 	//---- class StyleableInfosMap --------------------------------------------
 
 	static class StyleableInfosMap<K,V>
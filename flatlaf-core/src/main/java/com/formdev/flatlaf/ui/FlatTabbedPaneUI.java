@@ -411,6 +411,7 @@ public class FlatTabbedPaneUI
 		tabPane.setFocusTraversalKeys( KeyboardFocusManager.BACKWARD_TRAVERSAL_KEYS, focusBackwardTraversalKeys );
 
 		MigLayoutVisualPadding.install( tabPane, null );
+		FlatLaf.registerMnemonicComponent( tabPane );
 	}
 
 	@Override
@@ -442,6 +443,7 @@ public class FlatTabbedPaneUI
 		oldStyleValues = null;
 
 		MigLayoutVisualPadding.uninstall( tabPane );
+		FlatLaf.unregisterMnemonicComponent( tabPane );
 	}
 
 	@Override
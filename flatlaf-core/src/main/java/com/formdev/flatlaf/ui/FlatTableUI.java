@@ -24,6 +24,7 @@ import java.awt.EventQueue;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Insets;
+import java.awt.Paint;
 import java.awt.event.ActionEvent;
 import java.awt.event.FocusEvent;
 import java.awt.event.FocusListener;
@@ -405,67 +406,8 @@ public class FlatTableUI
 			double systemScaleFactor = UIScale.getSystemScaleFactor( (Graphics2D) g );
 			double lineThickness = (1. / systemScaleFactor) * (int) systemScaleFactor;
 
-			// Java 8 uses drawLine() to paint grid lines
-			// Java 9+ uses fillRect() to paint grid lines (except for dragged column)
-			g = new Graphics2DProxy( (Graphics2D) g ) {
-				@Override
-				public void drawLine( int x1, int y1, int x2, int y2 ) {
-					// do not paint last vertical line
-					if( hideLastVerticalLine && verticalLines &&
-						x1 == x2 && y1 == 0 && x1 == tableWidth - 1 &&
-						wasInvokedFromPaintGrid() )
-					  return;
-
-					// on Java 9+, fix wrong grid line thickness in dragged column
-					if( isDragging &&
-						SystemInfo.isJava_9_orLater &&
-						((horizontalLines && y1 == y2) || (verticalLines && x1 == x2)) &&
-						wasInvokedFromMethod( "paintDraggedArea" ) )
-					{
-						if( y1 == y2 ) {
-							// horizontal grid line
-							super.fill( new Rectangle2D.Double( x1, y1, x2 - x1 + 1, lineThickness ) );
-						} else if( x1 == x2 ) {
-							// vertical grid line
-							super.fill( new Rectangle2D.Double( x1, y1, lineThickness, y2 - y1 + 1 ) );
-						}
-						return;
-					}
-
-					super.drawLine( x1, y1, x2, y2 );
-				}
-
-				@Override
-				public void fillRect( int x, int y, int width, int height ) {
-					// do not paint last vertical line
-					if( hideLastVerticalLine && verticalLines &&
-						width == 1 && y == 0 && x == tableWidth - 1 &&
-						wasInvokedFromPaintGrid() )
-					  return;
-
-					// reduce line thickness to avoid unstable painted line thickness
-					if( lineThickness != 1 ) {
-						if( horizontalLines && height == 1 && wasInvokedFromPaintGrid() ) {
-							super.fill( new Rectangle2D.Double( x, y, width, lineThickness ) );
-							return;
-						}
-						if( verticalLines && width == 1 && y == 0 && wasInvokedFromPaintGrid() ) {
-							super.fill( new Rectangle2D.Double( x, y, lineThickness, height ) );
-							return;
-						}
-					}
-
-					super.fillRect( x, y, width, height );
-				}
-
-				private boolean wasInvokedFromPaintGrid() {
-					return wasInvokedFromMethod( "paintGrid" );
-				}
-
-				private boolean wasInvokedFromMethod( String methodName ) {
-					return StackUtils.wasInvokedFrom( BasicTableUI.class.getName(), methodName, 8 );
-				}
-			};
+			g = new GridGraphics( (Graphics2D) g, table.getGridColor(), horizontalLines, verticalLines,
+				hideLastVerticalLine, tableWidth, isDragging, lineThickness );
 		}
 
 		super.paint( g, c );
@@ -531,6 +473,118 @@ public class FlatTableUI
 		}
 	}
 
+	//---- class GridGraphics -------------------------------------------------
+
+	/**
+	 * Graphics proxy that fixes grid painting of BasicTableUI.
+	 * <p>
+	 * BasicTableUI paints grid lines (in paintGrid() and paintDraggedArea())
+	 * immediately after setting the grid color, and paints cell renderers
+	 * into graphics created with {@link Graphics#create(int, int, int, int)},
+	 * which are not proxied.
+	 * So lines painted while the grid color is active, are grid lines.
+	 * This avoids (slow) stack walking to detect the calling method.
+	 * <p>
+	 * Java 8 uses drawLine() to paint grid lines.
+	 * Java 9+ uses fillRect() to paint grid lines (except for dragged column).
+	 */
+	private static class GridGraphics
+		extends Graphics2DProxy
+	{
+		private final Color gridColor;
+		private final boolean horizontalLines;
+		private final boolean verticalLines;
+		private final boolean hideLastVerticalLine;
+		private final int tableWidth;
+		private final boolean isDragging;
+		private final double lineThickness;
+
+		// reused for all painted lines
+		private final Rectangle2D.Double lineRect = new Rectangle2D.Double();
+
+		private boolean gridColorActive;
+
+		GridGraphics( Graphics2D delegate, Color gridColor, boolean horizontalLines, boolean verticalLines,
+			boolean hideLastVerticalLine, int tableWidth, boolean isDragging, double lineThickness )
+		{
+			super( delegate );
+			this.gridColor = gridColor;
+			this.horizontalLines = horizontalLines;
+			this.verticalLines = verticalLines;
+			this.hideLastVerticalLine = hideLastVerticalLine;
+			this.tableWidth = tableWidth;
+			this.isDragging = isDragging;
+			this.lineThickness = lineThickness;
+		}
+
+		@Override
+		public void setColor( Color c ) {
+			gridColorActive = (c == gridColor && c != null);
+			super.setColor( c );
+		}
+
+		@Override
+		public void setPaint( Paint paint ) {
+			gridColorActive = (paint == gridColor && paint != null);
+			super.setPaint( paint );
+		}
+
+		@Override
+		public void drawLine( int x1, int y1, int x2, int y2 ) {
+			if( gridColorActive ) {
+				// do not paint last vertical line
+				if( hideLastVerticalLine && verticalLines &&
+					x1 == x2 && y1 == 0 && x1 == tableWidth - 1 )
+				  return;
+
+				// on Java 9+, fix wrong grid line thickness in dragged column
+				// (on Java 9+, only paintDraggedArea() uses drawLine() for grid lines)
+				if( isDragging &&
+					SystemInfo.isJava_9_orLater &&
+					((horizontalLines && y1 == y2) || (verticalLines && x1 == x2)) )
+				{
+					if( y1 == y2 ) {
+						// horizontal grid line
+						lineRect.setRect( x1, y1, x2 - x1 + 1, lineThickness );
+					} else {
+						// vertical grid line
+						lineRect.setRect( x1, y1, lineThickness, y2 - y1 + 1 );
+					}
+					super.fill( lineRect );
+					return;
+				}
+			}
+
+			super.drawLine( x1, y1, x2, y2 );
+		}
+
+		@Override
+		public void fillRect( int x, int y, int width, int height ) {
+			if( gridColorActive ) {
+				// do not paint last vertical line
+				if( hideLastVerticalLine && verticalLines &&
+					width == 1 && y == 0 && x == tableWidth - 1 )
+				  return;
+
+				// reduce line thickness to avoid unstable painted line thickness
+				if( lineThickness != 1 ) {
+					if( horizontalLines && height == 1 ) {
+						lineRect.setRect( x, y, width, lineThickness );
+						super.fill( lineRect );
+						return;
+					}
+					if( verticalLines && width == 1 && y == 0 ) {
+						lineRect.setRect( x, y, lineThickness, height );
+						super.fill( lineRect );
+						return;
+					}
+				}
+			}
+
+			super.fillRect( x, y, width, height );
+		}
+	}
+
 	//---- class FlatTablePropertyWatcher -------------------------------------
 
 	/**
@@ -584,6 +638,11 @@ public class FlatTableUI
 		FlatBooleanRenderer() {
 			setHorizontalAlignment( SwingConstants.CENTER );
 			setIcon( new FlatCheckBoxIcon() {
+				{
+					// paint from cached images because this icon is painted in many cells
+					paintCacheEnabled = true;
+				}
+
 				@Override
 				protected boolean isSelected( Component c ) {
 					return selected;
@@ -169,6 +169,15 @@ public class FlatTreeUI
 	private Color defaultSelectionBorderColor;
 	private Map<String, Object> oldStyleValues;
 
+	// state that does not change while painting rows; computed once in paint()
+	private boolean rowPaintStateValid;
+	private boolean rowPaintWideSelection;
+	private boolean rowPaintSelection;
+	private boolean rowPaintHasFocus;
+	private boolean rowPaintParentHasFocus;
+	private int rowPaintLeadSelectionRow;
+	private int rowPaintDropRow;
+
 	public static ComponentUI createUI( JComponent c ) {
 		return new FlatTreeUI();
 	}
@@ -440,6 +449,22 @@ public class FlatTreeUI
 
 	@Override
 	public void paint( Graphics g, JComponent c ) {
+		// compute state used in paintRow() once for all rows
+		rowPaintWideSelection = isWideSelection();
+		rowPaintSelection = isPaintSelection();
+		rowPaintHasFocus = FlatUIUtils.isPermanentFocusOwner( tree );
+		rowPaintParentHasFocus = !rowPaintHasFocus && isParentFocusOwner();
+		rowPaintLeadSelectionRow = getLeadSelectionRow();
+		rowPaintDropRow = getDropRow();
+		rowPaintStateValid = true;
+		try {
+			paintTree( g, c );
+		} finally {
+			rowPaintStateValid = false;
+		}
+	}
+
+	private void paintTree( Graphics g, JComponent c ) {
 		if( treeState == null )
 			return;
 
@@ -565,17 +590,20 @@ public class FlatTreeUI
 	protected void paintRow( Graphics g, Rectangle clipBounds, Insets insets, Rectangle bounds,
 		TreePath path, int row, boolean isExpanded, boolean hasBeenExpanded, boolean isLeaf )
 	{
+		boolean stateValid = rowPaintStateValid;
+		boolean wideSelection = stateValid ? rowPaintWideSelection : isWideSelection();
 		boolean isEditing = (editingComponent != null && editingRow == row);
 		boolean isSelected = tree.isRowSelected( row );
-		boolean isDropRow = isDropRow( row );
-		boolean needsSelectionPainting = (isSelected || isDropRow) && isPaintSelection();
+		boolean isDropRow = (stateValid ? rowPaintDropRow : getDropRow()) == row;
+		boolean needsSelectionPainting = (isSelected || isDropRow) &&
+			(stateValid ? rowPaintSelection : isPaintSelection());
 
 		// do not paint row if editing
 		if( isEditing ) {
 			// paint wide selection
 			// (do not access cell renderer here to avoid side effect
 			// if renderer component is also used as editor component)
-			if( isSelected && isWideSelection() ) {
+			if( isSelected && wideSelection ) {
 				Color oldColor = g.getColor();
 				g.setColor( selectionInactiveBackground );
 				paintWideSelection( g, bounds, row );
@@ -584,13 +612,14 @@ public class FlatTreeUI
 			return;
 		}
 
-		boolean hasFocus = FlatUIUtils.isPermanentFocusOwner( tree );
-		boolean cellHasFocus = hasFocus && (row == getLeadSelectionRow());
+		boolean hasFocus = stateValid ? rowPaintHasFocus : FlatUIUtils.isPermanentFocusOwner( tree );
+		boolean cellHasFocus = hasFocus &&
+			(row == (stateValid ? rowPaintLeadSelectionRow : getLeadSelectionRow()));
 
 		// if tree is used as cell renderer in another component (e.g. in Rhino JavaScript debugger),
 		// check whether that component is focused to get correct selection colors
-		if( !hasFocus && isSelected && tree.getParent() instanceof CellRendererPane )
-			hasFocus = FlatUIUtils.isPermanentFocusOwner( tree.getParent().getParent() );
+		if( !hasFocus && isSelected )
+			hasFocus = stateValid ? rowPaintParentHasFocus : isParentFocusOwner();
 
 		// get renderer component
 		Component rendererComponent = currentCellRenderer.getTreeCellRendererComponent( tree,
@@ -634,7 +663,7 @@ public class FlatTreeUI
 					? ((DefaultTreeCellRenderer)rendererComponent).getBackgroundSelectionColor()
 					: (hasFocus ? selectionBackground : selectionInactiveBackground)) );
 
-			if( isWideSelection() ) {
+			if( wideSelection ) {
 				// wide selection
 				paintWideSelection( g, bounds, row );
 			} else {
@@ -774,14 +803,23 @@ public class FlatTreeUI
 	}
 
 	/**
-	 * Checks whether dropping on a row.
+	 * Returns the row that is the drop target; or -1.
 	 * See DefaultTreeCellRenderer.getTreeCellRendererComponent().
 	 */
-	private boolean isDropRow( int row ) {
+	private int getDropRow() {
 		JTree.DropLocation dropLocation = tree.getDropLocation();
-		return dropLocation != null &&
-			dropLocation.getChildIndex() == -1 &&
-			tree.getRowForPath( dropLocation.getPath() ) == row;
+		return (dropLocation != null && dropLocation.getChildIndex() == -1)
+			? tree.getRowForPath( dropLocation.getPath() )
+			: -1;
+	}
+
+	/**
+	 * Checks whether the tree is used as cell renderer in another component,
+	 * which is focused.
+	 */
+	private boolean isParentFocusOwner() {
+		return tree.getParent() instanceof CellRendererPane &&
+			FlatUIUtils.isPermanentFocusOwner( tree.getParent().getParent() );
 	}
 
 	@Override
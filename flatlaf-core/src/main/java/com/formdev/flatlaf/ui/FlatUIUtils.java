@@ -69,6 +69,7 @@ import com.formdev.flatlaf.FlatSystemProperties;
 import com.formdev.flatlaf.util.DerivedColor;
 import com.formdev.flatlaf.util.Graphics2DProxy;
 import com.formdev.flatlaf.util.HiDPIUtils;
+import com.formdev.flatlaf.util.SoftCache;
 import com.formdev.flatlaf.util.SystemInfo;
 import com.formdev.flatlaf.util.UIScale;
 
@@ -371,6 +372,14 @@ public class FlatUIUtils
 
 	private static UIDefaults lightAWTPeerDefaults;
 
+	/**
+	 * Cache for shapes painted in {@link #paintOutlinedComponent}.
+	 * Components of the same kind (e.g. all text fields in a form) usually have the same
+	 * size and paint at the same location in their coordinate space,
+	 * so the shapes can be reused instead of creating new shapes on every repaint.
+	 */
+	private static final SoftCache<OutlineShapeKey, Shape> outlineShapeCache = new SoftCache<>( 64, 256, false );
+
 	static void runWithLightAWTPeerUIDefaults( Runnable runnable ) {
 		if( lightAWTPeerDefaults == null ) {
 			FlatLaf lightLaf = UIManager.getInt( "Component.focusWidth" ) >= 2
@@ -634,7 +643,7 @@ public class FlatUIUtils
 		//   arc diameter: arc
 		if( background != null ) {
 			g.setPaint( background );
-			g.fill( createComponentRectangle( x1, y1, w1, h1, arc ) );
+			g.fill( getCachedOutlineShape( x1, y1, w1, h1, 0, arc, 0 ) );
 		}
 
 		// optimization: paint focus border and border in single operation if colors are equal
@@ -668,8 +677,10 @@ public class FlatUIUtils
 			if( focusWidthFraction != 1 )
 				outerArc = arc + ((outerArc - arc) * focusWidthFraction);
 
-			g.setPaint( focusColor );
-			paintOutline( g, x2, y2, w2, h2, paintedFocusWidth, outerArc, innerArc );
+			if( w2 > 0 && h2 > 0 ) {
+				g.setPaint( focusColor );
+				g.fill( getCachedOutlineShape( x2, y2, w2, h2, paintedFocusWidth, outerArc, innerArc ) );
+			}
 		}
 
 		// paint border
@@ -677,12 +688,27 @@ public class FlatUIUtils
 		//   thickness: borderWidth
 		//   outer arc diameter: arc
 		//   inner arc diameter: arc - (borderWidth * 2)
-		if( borderColor != null && borderWidth != 0 ) {
+		if( borderColor != null && borderWidth != 0 && w1 > 0 && h1 > 0 ) {
 			g.setPaint( borderColor );
-			paintOutline( g, x1, y1, w1, h1, borderWidth, arc );
+			g.fill( getCachedOutlineShape( x1, y1, w1, h1, borderWidth, arc, arc - (borderWidth * 2) ) );
 		}
 	}
 
+	/**
+	 * Returns a cached (rounded) rectangle if {@code lineWidth} is zero,
+	 * otherwise a cached outline shape.
+	 * The returned shape is shared and must not be modified.
+	 */
+	private static Shape getCachedOutlineShape( float x, float y, float w, float h,
+		float lineWidth, float arc, float innerArc )
+	{
+		return outlineShapeCache.computeIfAbsent( new OutlineShapeKey( x, y, w, h, lineWidth, arc, innerArc ), key -> {
+			return (lineWidth == 0)
+				? createComponentRectangle( x, y, w, h, arc )
+				: createOutlineShape( x, y, w, h, lineWidth, arc, innerArc );
+		} );
+	}
+
 	/**
 	 * Paints an outline at the given bounds using the given line width.
 	 * Depending on the given arc, a rectangle, rounded rectangle or circle (if w == h) is painted.
@@ -724,13 +750,19 @@ public class FlatUIUtils
 		if( lineWidth == 0 || w <= 0 || h <= 0 )
 			return;
 
+		g.fill( createOutlineShape( x, y, w, h, lineWidth, arc, innerArc ) );
+	}
+
+	private static Shape createOutlineShape( float x, float y, float w, float h,
+		float lineWidth, float arc, float innerArc )
+	{
 		float t = lineWidth;
 		float t2x = t * 2;
 
 		Path2D border = new Path2D.Float( Path2D.WIND_EVEN_ODD );
 		border.append( createComponentRectangle( x, y, w, h, arc ), false );
 		border.append( createComponentRectangle( x + t, y + t, w - t2x, h - t2x, innerArc ), false );
-		g.fill( border );
+		return border;
 	}
 
 	/**
@@ -1351,4 +1383,54 @@ debug*/
 			return delegate.isBorderOpaque();
 		}
 	}
+
+	//---- class OutlineShapeKey ----------------------------------------------
+
+	private static final class OutlineShapeKey
+	{
+		private final float x;
+		private final float y;
+		private final float w;
+		private final float h;
+		private final float lineWidth;
+		private final float arc;
+		private final float innerArc;
+
+		OutlineShapeKey( float x, float y, float w, float h, float lineWidth, float arc, float innerArc ) {
+			this.x = x;
+			this.y = y;
+			this.w = w;
+			this.h = h;
+			this.lineWidth = lineWidth;
+			this.arc = arc;
+			this.innerArc = innerArc;
+		}
+
+		@Override
+		public boolean equals( Object obj ) {
+			if( !(obj instanceof OutlineShapeKey) )
+				return false;
+
+			OutlineShapeKey key = (OutlineShapeKey) obj;
+			return Float.compare( x, key.x ) == 0 &&
+				Float.compare( y, key.y ) == 0 &&
+				Float.compare( w, key.w ) == 0 &&
+				Float.compare( h, key.h ) == 0 &&
+				Float.compare( lineWidth, key.lineWidth ) == 0 &&
+				Float.compare( arc, key.arc ) == 0 &&
+				Float.compare( innerArc, key.innerArc ) == 0;
+		}
+
+		@Override
+		public int hashCode() {
+			int hash = Float.floatToIntBits( x );
+			hash = 31 * hash + Float.floatToIntBits( y );
+			hash = 31 * hash + Float.floatToIntBits( w );
+			hash = 31 * hash + Float.floatToIntBits( h );
+			hash = 31 * hash + Float.floatToIntBits( lineWidth );
+			hash = 31 * hash + Float.floatToIntBits( arc );
+			hash = 31 * hash + Float.floatToIntBits( innerArc );
+			return hash;
+		}
+	}
 }
@@ -23,6 +23,13 @@ import com.formdev.flatlaf.FlatSystemProperties;
 /**
  * Simple animator based on ideas and concepts from "Filthy Rich Clients" book
  * and "Timing Framework" library.
+ * <p>
+ * All running animators are driven by a single shared timer.
+ * So timing events of all animators are delivered in the same event,
+ * which allows {@link javax.swing.RepaintManager} to coalesce their repaints
+ * into a single paint pass.
+ * The maximum frame rate can be limited with system property
+ * {@link FlatSystemProperties#ANIMATION_FRAME_RATE}.
  *
  * @author Karl Tauber
  */
@@ -38,7 +45,7 @@ public class Animator
 	private boolean hasBegun;
 	private boolean timeToStop;
 	private long startTime;
-	private Timer timer;
+	private long lastEventTime;
 
 	/**
 	 * Checks whether animations are enabled (the default) or disabled via
@@ -184,19 +191,7 @@ public class Animator
 		timeToStop = false;
 		startTime = System.nanoTime() / 1000000;
 
-		if( timer == null ) {
-			timer = new Timer( resolution, e -> {
-				if( !hasBegun ) {
-					begin();
-					hasBegun = true;
-				}
-
-				timingEvent( getTimingFraction() );
-			} );
-		} else
-			timer.setDelay( resolution );
-		timer.setInitialDelay( 0 );
-		timer.start();
+		Pulse.add( this );
 	}
 
 	/**
@@ -219,8 +214,7 @@ public class Animator
 		if( !running )
 			return;
 
-		if( timer != null )
-			timer.stop();
+		Pulse.remove( this );
 
 		if( !cancel )
 			end();
@@ -245,6 +239,26 @@ public class Animator
 		return running;
 	}
 
+	/**
+	 * Invoked from shared pulse timer.
+	 */
+	private void pulse( long currentTime, int pulseDelay ) {
+		if( !running )
+			return;
+
+		// skip timing event if resolution of this animator is larger than pulse delay
+		if( hasBegun && currentTime - lastEventTime + (pulseDelay / 2) < resolution )
+			return;
+		lastEventTime = currentTime;
+
+		if( !hasBegun ) {
+			begin();
+			hasBegun = true;
+		}
+
+		timingEvent( getTimingFraction() );
+	}
+
 	private float getTimingFraction() {
 		long currentTime = System.nanoTime() / 1000000;
 		long elapsedTime = currentTime - startTime;
@@ -296,6 +310,78 @@ public class Animator
 			throw new IllegalStateException();
 	}
 
+	//---- class Pulse --------------------------------------------------------
+
+	/**
+	 * A single timer that drives all running animators.
+	 * The timer delay is the smallest resolution of all running animators,
+	 * but not smaller than the frame interval of the maximum frame rate.
+	 */
+	private static class Pulse
+	{
+		private static final ArrayList<Animator> animators = new ArrayList<>();
+		private static Timer timer;
+
+		static synchronized void add( Animator animator ) {
+			if( !animators.contains( animator ) )
+				animators.add( animator );
+
+			if( timer == null ) {
+				timer = new Timer( animator.resolution, e -> pulse() );
+				timer.setInitialDelay( 0 );
+			}
+			updateDelay();
+			if( !timer.isRunning() )
+				timer.start();
+		}
+
+		static synchronized void remove( Animator animator ) {
+			animators.remove( animator );
+
+			if( timer == null )
+				return;
+			if( animators.isEmpty() )
+				timer.stop();
+			else
+				updateDelay();
+		}
+
+		private static void updateDelay() {
+			int delay = Integer.MAX_VALUE;
+			for( Animator animator : animators )
+				delay = Math.min( delay, animator.resolution );
+
+			// limit frame rate
+			int maxFrameRate = getMaxFrameRate();
+			if( maxFrameRate > 0 )
+				delay = Math.max( delay, 1000 / maxFrameRate );
+
+			timer.setDelay( Math.max( delay, 1 ) );
+		}
+
+		private static int getMaxFrameRate() {
+			try {
+				String value = System.getProperty( FlatSystemProperties.ANIMATION_FRAME_RATE );
+				return (value != null) ? Integer.parseInt( value ) : 0;
+			} catch( NumberFormatException ex ) {
+				return 0;
+			}
+		}
+
+		private static void pulse() {
+			Animator[] runningAnimators;
+			int pulseDelay;
+			synchronized( Pulse.class ) {
+				runningAnimators = animators.toArray( new Animator[animators.size()] );
+				pulseDelay = timer.getDelay();
+			}
+
+			long currentTime = System.nanoTime() / 1000000;
+			for( Animator animator : runningAnimators )
+				animator.pulse( currentTime, pulseDelay );
+		}
+	}
+
 	//---- interface TimingTarget ---------------------------------------------
 
 	/**
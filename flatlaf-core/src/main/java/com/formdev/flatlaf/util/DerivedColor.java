@@ -30,11 +30,17 @@ import com.formdev.flatlaf.util.ColorFunctions.ColorFunction;
 public class DerivedColor
 	extends ColorUIResource
 {
+	// number of cached derived colors; must be a power of 2
+	private static final int CACHE_SIZE = 8;
+
 	private final ColorFunction[] functions;
 
 	private boolean hasBaseOfDefaultColor;
 	private int baseOfDefaultColorRGB;
 
+	// small hash-indexed cache of derived colors for other base colors (e.g. hover or pressed)
+	private CacheEntry[] cache;
+
 	public DerivedColor( Color defaultColor, ColorFunction... functions ) {
 		super( (defaultColor != null) ? defaultColor : Color.red );
 		this.functions = functions;
@@ -44,15 +50,29 @@ public class DerivedColor
 		if( (hasBaseOfDefaultColor && baseOfDefaultColorRGB == baseColor.getRGB()) || baseColor == this )
 			return this; // return default color
 
+		// get from cache
+		int baseRGB = baseColor.getRGB();
+		int index = (baseRGB * 0x9e3779b9) >>> (32 - Integer.numberOfTrailingZeros( CACHE_SIZE ));
+		CacheEntry[] cache = this.cache;
+		if( cache == null )
+			this.cache = cache = new CacheEntry[CACHE_SIZE];
+		CacheEntry entry = cache[index];
+		if( entry != null && entry.baseRGB == baseRGB )
+			return entry.result;
+
 		Color result = ColorFunctions.applyFunctions( baseColor, functions );
 
 		// if the result is equal to the default color, then the original base color
 		// was passed, and we can cache this to avoid color calculations
 		if( !hasBaseOfDefaultColor && result.getRGB() == this.getRGB() ) {
 			hasBaseOfDefaultColor = true;
-			baseOfDefaultColorRGB = baseColor.getRGB();
+			baseOfDefaultColorRGB = baseRGB;
 		}
 
+		// color functions depend only on the base color (RGB),
+		// so the result can be reused for same base color
+		cache[index] = new CacheEntry( baseRGB, result );
+
 		return result;
 	}
 
@@ -72,4 +92,17 @@ public class DerivedColor
 
 		return buf.toString();
 	}
+
+	//---- class CacheEntry ---------------------------------------------------
+
+	private static class CacheEntry
+	{
+		final int baseRGB;
+		final Color result;
+
+		CacheEntry( int baseRGB, Color result ) {
+			this.baseRGB = baseRGB;
+			this.result = result;
+		}
+	}
 }
@@ -19,12 +19,17 @@ package com.formdev.flatlaf.util;
 import java.awt.Font;
 import java.awt.FontFormatException;
 import java.awt.GraphicsEnvironment;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.swing.plaf.UIResource;
 import javax.swing.text.StyleContext;
 
@@ -36,7 +41,11 @@ import javax.swing.text.StyleContext;
  */
 public class FontUtils
 {
+	// guarded by FontUtils.class
+	//   (loaders are registered and loaded on various threads, e.g. AWT thread,
+	//   background thread of FlatLaf.prepare() or font loader thread)
 	private static Map<String, Runnable> loadersMap;
+	private static ExecutorService asyncLoaderExecutor;
 
 	/**
 	 * Gets a composite font for the given family, style and size.
@@ -73,9 +82,57 @@ public class FontUtils
 	 * regular (plain), italic, bold and bold-italic.
 	 */
 	public static void registerFontFamilyLoader( String family, Runnable loader ) {
-		if( loadersMap == null )
-			loadersMap = new HashMap<>();
-		loadersMap.put( family, loader );
+		synchronized( FontUtils.class ) {
+			if( loadersMap == null )
+				loadersMap = new HashMap<>();
+			loadersMap.put( family, loader );
+		}
+	}
+
+	/**
+	 * Loads a font family asynchronously on a background thread.
+	 * <p>
+	 * The given runnable is immediately scheduled for execution on a background thread
+	 * and should invoke {@link #installFont(URL)} to load and register font(s) for the family.
+	 * The family is also registered via {@link #registerFontFamilyLoader(String, Runnable)}
+	 * so that {@link #loadFontFamily(String)} (and FlatLaf when it loads a font)
+	 * waits until the family is loaded, if it is requested before loading finished.
+	 * <p>
+	 * All families are loaded one after another on the same (daemon) thread.
+	 *
+	 * @return a future that is completed when the font family is loaded
+	 * @since 3.5
+	 */
+	public static CompletableFuture<Void> loadFontFamilyAsync( String family, Runnable loader ) {
+		CompletableFuture<Void> future = CompletableFuture.runAsync( () -> {
+			try {
+				loader.run();
+			} catch( RuntimeException ex ) {
+				LoggingFacade.INSTANCE.logSevere( "FlatLaf: Failed to load font family '" + family + "'.", ex );
+				throw ex;
+			}
+		}, getAsyncLoaderExecutor() );
+
+		// wait for background loading if family is requested before it is loaded
+		registerFontFamilyLoader( family, () -> {
+			try {
+				future.join();
+			} catch( RuntimeException ex ) {
+				// already logged
+			}
+		} );
+		return future;
+	}
+
+	private static synchronized ExecutorService getAsyncLoaderExecutor() {
+		if( asyncLoaderExecutor == null ) {
+			asyncLoaderExecutor = Executors.newSingleThreadExecutor( r -> {
+				Thread thread = new Thread( r, "FlatLaf font loader" );
+				thread.setDaemon( true );
+				return thread;
+			} );
+		}
+		return asyncLoaderExecutor;
 	}
 
 	/**
@@ -83,22 +140,36 @@ public class FontUtils
 	 * If the family is already loaded or no loader is registered for that family, nothing happens.
 	 */
 	public static void loadFontFamily( String family ) {
-		if( !hasLoaders() )
-			return;
+		Runnable loader;
+		synchronized( FontUtils.class ) {
+			if( !hasLoaders() )
+				return;
+
+			loader = loadersMap.remove( family );
+			if( loadersMap.isEmpty() )
+				loadersMap = null;
+		}
 
-		Runnable loader = loadersMap.remove( family );
+		// run loader outside of lock because loading may take some time
+		// or may wait for loading on font loader thread
 		if( loader != null )
 			loader.run();
-
-		if( loadersMap.isEmpty() )
-			loadersMap = null;
 	}
 
 	/**
 	 * Loads a font file from the given url and registers it in the graphics environment.
 	 * Uses {@link Font#createFont(int, InputStream)} and {@link GraphicsEnvironment#registerFont(Font)}.
+	 * <p>
+	 * If the url references a file (e.g. if the font is loaded from an extracted
+	 * or cached font file), then {@link Font#createFont(int, File)} is used,
+	 * which reads the font directly from the file.
+	 * Otherwise Java copies the font data to a temporary file.
 	 */
 	public static boolean installFont( URL url ) {
+		File file = toFile( url );
+		if( file != null )
+			return installFont( file );
+
 		try( InputStream in = url.openStream() ) {
 			Font font = Font.createFont( Font.TRUETYPE_FONT, in );
 			return GraphicsEnvironment.getLocalGraphicsEnvironment().registerFont( font );
@@ -108,6 +179,34 @@ public class FontUtils
 		}
 	}
 
+	/**
+	 * Loads a font file and registers it in the graphics environment.
+	 * Uses {@link Font#createFont(int, File)} and {@link GraphicsEnvironment#registerFont(Font)}.
+	 *
+	 * @since 3.5
+	 */
+	public static boolean installFont( File file ) {
+		try {
+			Font font = Font.createFont( Font.TRUETYPE_FONT, file );
+			return GraphicsEnvironment.getLocalGraphicsEnvironment().registerFont( font );
+		} catch( FontFormatException | IOException ex ) {
+			LoggingFacade.INSTANCE.logSevere( "FlatLaf: Failed to install font " + file, ex );
+			return false;
+		}
+	}
+
+	private static File toFile( URL url ) {
+		if( url == null || !"file".equals( url.getProtocol() ) )
+			return null;
+
+		try {
+			File file = new File( url.toURI() );
+			return file.isFile() ? file : null;
+		} catch( URISyntaxException | IllegalArgumentException ex ) {
+			return null;
+		}
+	}
+
 	/**
 	 * Returns all font family names available in the graphics environment.
 	 * This invokes {@link GraphicsEnvironment#getAvailableFontFamilyNames()} and
@@ -116,14 +215,15 @@ public class FontUtils
 	 */
 	public static String[] getAvailableFontFamilyNames() {
 		String[] availableFontFamilyNames = GraphicsEnvironment.getLocalGraphicsEnvironment().getAvailableFontFamilyNames();
-		if( !hasLoaders() )
+		String[] families = getLoaderFamilies();
+		if( families == null )
 			return availableFontFamilyNames;
 
 		// append families that are not yet loaded
-		ArrayList<String> result = new ArrayList<>( availableFontFamilyNames.length + loadersMap.size() );
+		ArrayList<String> result = new ArrayList<>( availableFontFamilyNames.length + families.length );
 		for( String name : availableFontFamilyNames )
 			result.add( name );
-		for( String name : loadersMap.keySet() ) {
+		for( String name : families ) {
 			if( !result.contains( name ) )
 				result.add( name );
 		}
@@ -137,9 +237,9 @@ public class FontUtils
 	 * and then invokes {@link GraphicsEnvironment#getAllFonts()}.
 	 */
 	public static Font[] getAllFonts() {
-		if( hasLoaders() ) {
+		String[] families = getLoaderFamilies();
+		if( families != null ) {
 			// load all registered families
-			String[] families = loadersMap.keySet().toArray( new String[loadersMap.size()] );
 			for( String family : families )
 				loadFontFamily( family );
 		}
@@ -147,7 +247,15 @@ public class FontUtils
 		return GraphicsEnvironment.getLocalGraphicsEnvironment().getAllFonts();
 	}
 
+	private static String[] getLoaderFamilies() {
+		synchronized( FontUtils.class ) {
+			return hasLoaders() ? loadersMap.keySet().toArray( new String[loadersMap.size()] ) : null;
+		}
+	}
+
 	private static boolean hasLoaders() {
-		return loadersMap != null && !loadersMap.isEmpty();
+		synchronized( FontUtils.class ) {
+			return loadersMap != null && !loadersMap.isEmpty();
+		}
 	}
 }
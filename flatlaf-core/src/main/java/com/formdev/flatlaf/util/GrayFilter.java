@@ -1,6 +1,7 @@
 // Copyright 2000-2020 JetBrains s.r.o. Use of this source code is governed by the Apache 2.0 license that can be found in the LICENSE file.
 package com.formdev.flatlaf.util;
 
+import java.awt.image.ColorModel;
 import java.awt.image.RGBImageFilter;
 
 // based on https://github.com/JetBrains/intellij-community/blob/3840eab54746f5c4f301bb3ac78f00a980b5fd6e/platform/util/ui/src/com/intellij/util/ui/UIUtil.java#L253-L347
@@ -12,6 +13,20 @@ import java.awt.image.RGBImageFilter;
 public class GrayFilter
 	extends RGBImageFilter
 {
+	// NTSC conversion formula (0.30 * r + 0.59 * g + 0.11 * b) as per-channel lookup tables
+	// in 16.16 fixed-point (rounded up, so that the sum is never below the exact value)
+	private static final int[] red30 = new int[256];
+	private static final int[] green59 = new int[256];
+	private static final int[] blue11 = new int[256];
+
+	static {
+		for( int i = 0; i < 256; i++ ) {
+			red30[i] = (30 * i * 65536 + 99) / 100;
+			green59[i] = (59 * i * 65536 + 99) / 100;
+			blue11[i] = (11 * i * 65536 + 99) / 100;
+		}
+	}
+
 	private final float brightness;
 	private final float contrast;
 	private final int alpha;
@@ -19,6 +34,9 @@ public class GrayFilter
 	private final int origContrast;
 	private final int origBrightness;
 
+	private final int[] grayTable;
+	private final int[] alphaTable;
+
 	public static GrayFilter createDisabledIconFilter( boolean dark ) {
 		return dark
 			? new GrayFilter( -20, -70, 100 )
@@ -38,6 +56,17 @@ public class GrayFilter
 		this.brightness = (float) (Math.pow( origBrightness, 3 ) / (100f * 100f)); // cubic in [0..100]
 		this.contrast = origContrast / 100f;
 
+		// lookup tables for brightness/contrast and alpha
+		grayTable = new int[256];
+		for( int i = 0; i < 256; i++ )
+			grayTable[i] = adjustGray( i );
+		if( this.alpha != 100 ) {
+			alphaTable = new int[256];
+			for( int i = 0; i < 256; i++ )
+				alphaTable[i] = (i * this.alpha / 100) << 24;
+		} else
+			alphaTable = null;
+
 		canFilterIndexColorModel = true;
 	}
 
@@ -59,12 +88,54 @@ public class GrayFilter
 
 	@Override
 	public int filterRGB( int x, int y, int rgb ) {
+		return filterRGB( rgb );
+	}
+
+	/**
+	 * Filters the given pixels (in default RGB color model) in place.
+	 *
+	 * @param pixels the pixels
+	 * @param offset the index of the first pixel to filter
+	 * @param length the number of pixels to filter
+	 * @since 3.5
+	 */
+	public void filterRGB( int[] pixels, int offset, int length ) {
+		int end = offset + length;
+		for( int i = offset; i < end; i++ )
+			pixels[i] = filterRGB( pixels[i] );
+	}
+
+	/**
+	 * Overridden to filter whole lines of pixels at once.
+	 */
+	@Override
+	public void filterRGBPixels( int x, int y, int w, int h, int[] pixels, int off, int scansize ) {
+		// subclasses may override filterRGB(int,int,int)
+		if( getClass() != GrayFilter.class ) {
+			super.filterRGBPixels( x, y, w, h, pixels, off, scansize );
+			return;
+		}
+
+		for( int row = 0, index = off; row < h; row++, index += scansize )
+			filterRGB( pixels, index, w );
+		consumer.setPixels( x, y, w, h, ColorModel.getRGBdefault(), pixels, off, scansize );
+	}
+
+	private int filterRGB( int rgb ) {
 		// use NTSC conversion formula
-		int gray = (int)(
-			0.30 * (rgb >> 16 & 0xff) +
-			0.59 * (rgb >> 8 & 0xff) +
-			0.11 * (rgb & 0xff));
+		int gray = grayTable[(
+			red30[rgb >> 16 & 0xff] +
+			green59[rgb >> 8 & 0xff] +
+			blue11[rgb & 0xff]) >> 16];
+
+		int a = (alphaTable != null)
+			? alphaTable[(rgb >> 24) & 0xff]
+			: (rgb & 0xff000000);
 
+		return a | (gray << 16) | (gray << 8) | gray;
+	}
+
+	private int adjustGray( int gray ) {
 		if( brightness >= 0 )
 			gray = (int) ((gray + brightness * 255) / (1 + brightness));
 		else
@@ -78,10 +149,6 @@ public class GrayFilter
 		} else
 			gray = (int) (127 + (gray - 127) * (contrast + 1));
 
-		int a = (alpha != 100)
-			? (((rgb >> 24) & 0xff) * alpha / 100) << 24
-			: (rgb & 0xff000000);
-
-		return a | (gray << 16) | (gray << 8) | gray;
+		return gray;
 	}
 }
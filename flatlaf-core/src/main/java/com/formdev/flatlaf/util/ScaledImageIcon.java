@@ -23,6 +23,9 @@ import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import javax.swing.Icon;
 import javax.swing.ImageIcon;
 
@@ -30,20 +33,37 @@ import javax.swing.ImageIcon;
  * Scales the given image icon using the system and user scale factors and
  * paints the icon at system scale factor 1x. This gives best scaling quality.
  * If the given image icon supports multiple resolutions, the best resolution
- * variant is used. The last scaled image is cached for faster repainting.
+ * variant is used.
+ * <p>
+ * Scaled images are cached for faster repainting.
+ * Each icon remembers the recently used scale factors (e.g. if the icon is shown
+ * on multiple screens with different scale factors) and the scaled images are
+ * stored in a global least-recently-used cache, which is limited in memory size.
+ * The cache references source images weakly, so it does not prevent
+ * garbage collection of unused images. Scaled images of garbage collected
+ * source images are removed from the cache.
  *
  * @author Karl Tauber
  */
 public class ScaledImageIcon
 	implements Icon
 {
+	private static final int MAX_VARIANTS = 4;
+	private static final long IMAGE_CACHE_MAX_BYTES = 16 * 1024 * 1024;
+
+	// LRU cache of scaled images shared by all icons; uses soft references for images
+	private static final SoftCache<ScaledImageKey, BufferedImage> imageCache = new SoftCache<>( 64,
+		IMAGE_CACHE_MAX_BYTES, ScaledImageIcon::getImageBytes, false );
+
+	// queue of keys whose source image was garbage collected
+	private static final ReferenceQueue<Image> collectedSourceImages = new ReferenceQueue<>();
+
 	private final ImageIcon imageIcon;
 	private final int iconWidth;
 	private final int iconHeight;
 
-	private double lastSystemScaleFactor;
-	private float lastUserScaleFactor;
-	private Image lastImage;
+	// recently used scale variants; most recently used first
+	private final ScaleVariant[] variants = new ScaleVariant[MAX_VARIANTS];
 
 	public ScaledImageIcon( ImageIcon imageIcon ) {
 		this( imageIcon, imageIcon.getIconWidth(), imageIcon.getIconHeight() );
@@ -84,11 +104,9 @@ debug*/
 		}
 
 		// paint cached scaled icon
-		if( systemScaleFactor == lastSystemScaleFactor &&
-			userScaleFactor == lastUserScaleFactor &&
-			lastImage != null )
-		{
-			paintLastImage( g, x, y );
+		Image cachedImage = getVariantImage( systemScaleFactor, userScaleFactor );
+		if( cachedImage != null ) {
+			paintImage( g, x, y, cachedImage, systemScaleFactor );
 			return;
 		}
 
@@ -116,7 +134,16 @@ debug*/
 		}
 
 		// scale image if necessary to destination size
+		ScaledImageKey key = null;
 		if( imageWidth != destImageWidth || imageHeight != destImageHeight ) {
+			key = new ScaledImageKey( image, destImageWidth, destImageHeight );
+			BufferedImage scaledImage = imageCache.get( key );
+			if( scaledImage != null ) {
+				addVariant( new ScaleVariant( systemScaleFactor, userScaleFactor, null, key ) );
+				paintImage( g, x, y, scaledImage, systemScaleFactor );
+				return;
+			}
+
 			// determine scaling method; default is "quality"
 			Object scalingInterpolation = RenderingHints.VALUE_INTERPOLATION_BICUBIC;
 			float imageScaleFactor = (float) destImageWidth / (float) imageWidth;
@@ -132,16 +159,49 @@ debug*/
 
 			// scale image
 			BufferedImage bufferedImage = image2bufferedImage( image );
-			image = scaleImage( bufferedImage, destImageWidth, destImageHeight, scalingInterpolation );
+			scaledImage = scaleImage( bufferedImage, destImageWidth, destImageHeight, scalingInterpolation );
+			removeCollectedSourceImages();
+			imageCache.put( key, scaledImage );
+			image = scaledImage;
 		}
 
-		// cache image
-		lastSystemScaleFactor = systemScaleFactor;
-		lastUserScaleFactor = userScaleFactor;
-		lastImage = image;
+		// remember variant (unscaled images are referenced directly)
+		addVariant( new ScaleVariant( systemScaleFactor, userScaleFactor, (key == null) ? image : null, key ) );
 
 		// paint image
-		paintLastImage( g, x, y );
+		paintImage( g, x, y, image, systemScaleFactor );
+	}
+
+	private Image getVariantImage( double systemScaleFactor, float userScaleFactor ) {
+		for( int i = 0; i < variants.length; i++ ) {
+			ScaleVariant variant = variants[i];
+			if( variant == null )
+				break;
+
+			if( variant.systemScaleFactor != systemScaleFactor || variant.userScaleFactor != userScaleFactor )
+				continue;
+
+			Image image = (variant.image != null) ? variant.image : imageCache.get( variant.key );
+			if( image == null ) {
+				// scaled image was removed from cache
+				System.arraycopy( variants, i + 1, variants, i, variants.length - i - 1 );
+				variants[variants.length - 1] = null;
+				return null;
+			}
+
+			// move to front
+			if( i > 0 ) {
+				System.arraycopy( variants, 0, variants, 1, i );
+				variants[0] = variant;
+			}
+			return image;
+		}
+		return null;
+	}
+
+	private void addVariant( ScaleVariant variant ) {
+		System.arraycopy( variants, 0, variants, 1, variants.length - 1 );
+		variants[0] = variant;
 	}
 
 	protected Image getResolutionVariant( int destImageWidth, int destImageHeight ) {
@@ -149,14 +209,76 @@ debug*/
 			imageIcon.getImage(), destImageWidth, destImageHeight );
 	}
 
-	private void paintLastImage( Graphics g, int x, int y ) {
-		if( lastSystemScaleFactor > 1 ) {
+	private static void paintImage( Graphics g, int x, int y, Image image, double systemScaleFactor ) {
+		if( systemScaleFactor > 1 ) {
 			HiDPIUtils.paintAtScale1x( (Graphics2D) g, x, y, 100, 100, // width and height are not used
 				(g2, x2, y2, width2, height2, scaleFactor2) -> {
-					g2.drawImage( lastImage, x2, y2, null );
+					g2.drawImage( image, x2, y2, null );
 				} );
 		} else
-			g.drawImage( lastImage, x, y, null );
+			g.drawImage( image, x, y, null );
+	}
+
+	/**
+	 * Removes scaled images from the global image cache, whose source image
+	 * was garbage collected. Their keys can never match again.
+	 */
+	private static void removeCollectedSourceImages() {
+		Reference<? extends Image> ref;
+		while( (ref = collectedSourceImages.poll()) != null )
+			imageCache.remove( ((SourceImageReference)ref).key );
+	}
+
+	private static long getImageBytes( BufferedImage image ) {
+		return image.getWidth() * image.getHeight() * 4L;
+	}
+
+	/**
+	 * Returns the number of bytes used by scaled images in the global image cache.
+	 *
+	 * @since 3.5
+	 */
+	public static long getImageCacheBytes() {
+		removeCollectedSourceImages();
+		return imageCache.getTotalWeight();
+	}
+
+	/**
+	 * Returns how often a scaled image was found in the global image cache.
+	 *
+	 * @since 3.5
+	 */
+	public static long getImageCacheHitCount() {
+		return imageCache.getHitCount();
+	}
+
+	/**
+	 * Returns how often a scaled image was not found in the global image cache
+	 * and the image had to be scaled.
+	 *
+	 * @since 3.5
+	 */
+	public static long getImageCacheMissCount() {
+		return imageCache.getMissCount();
+	}
+
+	/**
+	 * Returns how many scaled images were removed from the global image cache
+	 * because the cache memory limit was reached or the image was garbage collected.
+	 *
+	 * @since 3.5
+	 */
+	public static long getImageCacheEvictionCount() {
+		return imageCache.getEvictionCount();
+	}
+
+	/**
+	 * Removes all scaled images from the global image cache.
+	 *
+	 * @since 3.5
+	 */
+	public static void clearImageCache() {
+		imageCache.clear();
 	}
 
 	/**
@@ -194,4 +316,79 @@ debug*/
 		}
 		return bufferedImage;
 	}
+
+	//---- class ScaleVariant -------------------------------------------------
+
+	private static class ScaleVariant
+	{
+		final double systemScaleFactor;
+		final float userScaleFactor;
+		final Image image;
+		final ScaledImageKey key;
+
+		/**
+		 * @param image the unscaled image, or {@code null} if scaled
+		 * @param key the key of the scaled image in the global cache, or {@code null} if not scaled
+		 */
+		ScaleVariant( double systemScaleFactor, float userScaleFactor, Image image, ScaledImageKey key ) {
+			this.systemScaleFactor = systemScaleFactor;
+			this.userScaleFactor = userScaleFactor;
+			this.image = image;
+			this.key = key;
+		}
+	}
+
+	//---- class ScaledImageKey -----------------------------------------------
+
+	private static class ScaledImageKey
+	{
+		// weak reference to source image, which allows garbage collection of unused images
+		private final SourceImageReference image;
+		private final int width;
+		private final int height;
+		private final int hashCode;
+
+		ScaledImageKey( Image image, int width, int height ) {
+			this.image = new SourceImageReference( image, this );
+			this.width = width;
+			this.height = height;
+
+			hashCode = (System.identityHashCode( image ) * 31 + width) * 31 + height;
+		}
+
+		@Override
+		public boolean equals( Object obj ) {
+			if( obj == this )
+				return true;
+			if( !(obj instanceof ScaledImageKey) )
+				return false;
+
+			// keys of garbage collected images are only equal to themselves
+			ScaledImageKey key = (ScaledImageKey) obj;
+			Image image = this.image.get();
+			return image != null &&
+				image == key.image.get() &&
+				width == key.width &&
+				height == key.height;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	//---- class SourceImageReference -----------------------------------------
+
+	private static class SourceImageReference
+		extends WeakReference<Image>
+	{
+		// needed to remove scaled image from cache in removeCollectedSourceImages()
+		final ScaledImageKey key;
+
+		SourceImageReference( Image image, ScaledImageKey key ) {
+			super( image, collectedSourceImages );
+			this.key = key;
+		}
+	}
 }
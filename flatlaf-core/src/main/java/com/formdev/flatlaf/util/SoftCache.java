@@ -19,15 +19,31 @@ package com.formdev.flatlaf.util;
 import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 /**
  * A simple cache (map) that uses soft references for the values.
+ * <p>
+ * Optionally, weak references can be used for the values
+ * and the number of entries or the total weight of the values
+ * (e.g. memory size in bytes) can be limited.
+ * If a limit is exceeded, the least recently used entries are removed.
+ * <p>
+ * This class is thread-safe.
+ * Method {@link #keySet()} returns a view, but its iterator iterates over a copy of the keys.
+ * Methods {@link #values()} and {@link #entrySet()} return copies.
  *
  * @author Karl Tauber
  * @since 2
@@ -37,57 +53,169 @@ public class SoftCache<K,V>
 {
 	private final Map<K, CacheReference<K,V>> map;
 	private final ReferenceQueue<V> queue = new ReferenceQueue<>();
+	private final boolean weakValues;
+	private final long maxWeight;
+	private final ToLongFunction<? super V> weigher;
+
+	private long totalWeight;
+	private long hitCount;
+	private long missCount;
+	private long evictionCount;
 
 	public SoftCache() {
-		map = new HashMap<>();
+		this( 16, 0, false );
 	}
 
 	public SoftCache( int initialCapacity ) {
-		map = new HashMap<>( initialCapacity );
+		this( initialCapacity, 0, false );
+	}
+
+	/**
+	 * @param initialCapacity the initial capacity
+	 * @param maxSize the maximum number of entries, or zero for no limit
+	 * @param weakValues use weak references (instead of soft references) for the values
+	 * @since 3.5
+	 */
+	public SoftCache( int initialCapacity, int maxSize, boolean weakValues ) {
+		this( initialCapacity, maxSize, 0, null, weakValues );
+	}
+
+	/**
+	 * @param initialCapacity the initial capacity
+	 * @param maxWeight the maximum total weight of all values (e.g. memory size in bytes)
+	 * @param weigher computes the weight of a value; invoked once when a value is put into the cache
+	 * @param weakValues use weak references (instead of soft references) for the values
+	 * @since 3.5
+	 */
+	public SoftCache( int initialCapacity, long maxWeight, ToLongFunction<? super V> weigher, boolean weakValues ) {
+		this( initialCapacity, 0, maxWeight, weigher, weakValues );
+	}
+
+	private SoftCache( int initialCapacity, int maxSize, long maxWeight,
+		ToLongFunction<? super V> weigher, boolean weakValues )
+	{
+		this.weakValues = weakValues;
+		this.maxWeight = (weigher != null) ? maxWeight : 0;
+		this.weigher = weigher;
+		map = (maxSize > 0 || this.maxWeight > 0)
+			? new LinkedHashMap<K, CacheReference<K,V>>( initialCapacity, 0.75f, true ) {
+				@Override
+				protected boolean removeEldestEntry( Map.Entry<K, CacheReference<K,V>> eldest ) {
+					if( maxSize <= 0 || size() <= maxSize )
+						return false;
+					removed( eldest.getValue() );
+					evictionCount++;
+					return true;
+				}
+			}
+			: new HashMap<>( initialCapacity );
 	}
 
 	@Override
-	public int size() {
+	public synchronized int size() {
 		expungeStaleEntries();
 		return map.size();
 	}
 
 	@Override
-	public boolean isEmpty() {
+	public synchronized boolean isEmpty() {
 		expungeStaleEntries();
 		return map.isEmpty();
 	}
 
 	@Override
-	public boolean containsKey( Object key ) {
+	public synchronized boolean containsKey( Object key ) {
 		expungeStaleEntries();
 		return map.containsKey( key );
 	}
 
-	/**
-	 * Not supported. Throws {@link UnsupportedOperationException}.
-	 */
 	@Override
-	public boolean containsValue( Object value ) {
-		throw new UnsupportedOperationException();
+	public synchronized boolean containsValue( Object value ) {
+		expungeStaleEntries();
+		for( CacheReference<K,V> ref : map.values() ) {
+			V v = ref.get();
+			if( v != null && v.equals( value ) )
+				return true;
+		}
+		return false;
 	}
 
 	@Override
-	public V get( Object key ) {
+	public synchronized V get( Object key ) {
 		expungeStaleEntries();
-		return getRef( map.get( key ) );
+		V value = getRef( map.get( key ) );
+		if( value != null )
+			hitCount++;
+		else
+			missCount++;
+		return value;
 	}
 
 	@Override
-	public V put( K key, V value ) {
+	public synchronized V put( K key, V value ) {
 		expungeStaleEntries();
-		return getRef( map.put( key, new CacheReference<>( key, value, queue ) ) );
+		return getRef( putRef( key, value ) );
 	}
 
 	@Override
-	public V remove( Object key ) {
+	public synchronized V remove( Object key ) {
 		expungeStaleEntries();
-		return getRef( map.remove( key ) );
+		return getRef( removeRef( key ) );
+	}
+
+	/**
+	 * If the given key is not in the cache (or its value was garbage collected),
+	 * computes the value using the given function and puts it into the cache.
+	 * <p>
+	 * The function is invoked while this cache is locked,
+	 * so it should be short and must not access this cache.
+	 *
+	 * @since 3.5
+	 */
+	@Override
+	public synchronized V computeIfAbsent( K key, Function<? super K, ? extends V> mappingFunction ) {
+		V value = get( key );
+		if( value != null )
+			return value;
+
+		value = mappingFunction.apply( key );
+		if( value != null )
+			putRef( key, value );
+		return value;
+	}
+
+	private CacheReference<K,V> putRef( K key, V value ) {
+		long weight = (weigher != null) ? weigher.applyAsLong( value ) : 0;
+		CacheReference<K,V> ref = weakValues
+			? new WeakCacheReference<>( key, value, weight, queue )
+			: new SoftCacheReference<>( key, value, weight, queue );
+
+		totalWeight += weight;
+		CacheReference<K,V> oldRef = map.put( key, ref );
+		removed( oldRef );
+
+		// remove least recently used entries if maximum weight is exceeded
+		// (but keep the new entry)
+		if( maxWeight > 0 && totalWeight > maxWeight ) {
+			Iterator<CacheReference<K,V>> it = map.values().iterator();
+			while( totalWeight > maxWeight && map.size() > 1 ) {
+				removed( it.next() );
+				it.remove();
+				evictionCount++;
+			}
+		}
+		return oldRef;
+	}
+
+	private CacheReference<K,V> removeRef( Object key ) {
+		CacheReference<K,V> ref = map.remove( key );
+		removed( ref );
+		return ref;
+	}
+
+	private void removed( CacheReference<K,V> ref ) {
+		if( ref != null )
+			totalWeight -= ref.weight();
 	}
 
 	private V getRef( CacheReference<K,V> ref ) {
@@ -95,46 +223,70 @@ public class SoftCache<K,V>
 	}
 
 	@Override
-	public void putAll( Map<? extends K, ? extends V> m ) {
+	public synchronized void putAll( Map<? extends K, ? extends V> m ) {
 		expungeStaleEntries();
 		for( Entry<? extends K, ? extends V> e : m.entrySet() )
 			put( e.getKey(), e.getValue() );
 	}
 
 	@Override
-	public void clear() {
+	public synchronized void clear() {
 		map.clear();
+		totalWeight = 0;
 		expungeStaleEntries();
 	}
 
+	/**
+	 * Returns a view of the keys.
+	 * Removing keys from the view (e.g. using {@link Set#remove(Object)},
+	 * {@link Set#retainAll(Collection)} or {@link Iterator#remove()}) removes them from the cache.
+	 * <p>
+	 * The iterator iterates over a copy of the keys (at the time the iterator was created),
+	 * which allows modifying the cache while iterating.
+	 */
 	@Override
 	public Set<K> keySet() {
-		expungeStaleEntries();
-		return map.keySet();
+		return new KeySet();
 	}
 
 	/**
-	 * Not supported. Throws {@link UnsupportedOperationException}.
+	 * Returns a copy of the values, which have not been garbage collected.
 	 */
 	@Override
-	public Collection<V> values() {
-		throw new UnsupportedOperationException();
+	public synchronized Collection<V> values() {
+		expungeStaleEntries();
+		ArrayList<V> values = new ArrayList<>( map.size() );
+		for( CacheReference<K,V> ref : map.values() ) {
+			V value = ref.get();
+			if( value != null )
+				values.add( value );
+		}
+		return values;
 	}
 
 	/**
-	 * Not supported. Throws {@link UnsupportedOperationException}.
+	 * Returns a copy of the entries, whose values have not been garbage collected.
 	 */
 	@Override
-	public Set<Entry<K, V>> entrySet() {
-		throw new UnsupportedOperationException();
+	public synchronized Set<Entry<K, V>> entrySet() {
+		expungeStaleEntries();
+		LinkedHashMap<K, V> copy = new LinkedHashMap<>( map.size() );
+		for( CacheReference<K,V> ref : map.values() ) {
+			V value = ref.get();
+			if( value != null )
+				copy.put( ref.key(), value );
+		}
+		return copy.entrySet();
 	}
 
 	/**
-	 * Not supported. Throws {@link UnsupportedOperationException}.
+	 * Invokes the given action for a copy of the entries,
+	 * whose values have not been garbage collected.
 	 */
 	@Override
 	public void forEach( BiConsumer<? super K, ? super V> action ) {
-		throw new UnsupportedOperationException();
+		for( Entry<K, V> e : entrySet() )
+			action.accept( e.getKey(), e.getValue() );
 	}
 
 	/**
@@ -145,24 +297,179 @@ public class SoftCache<K,V>
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Returns the number of {@link #get(Object)} invocations that returned a value.
+	 *
+	 * @since 3.5
+	 */
+	public synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * Returns the number of {@link #get(Object)} invocations that returned {@code null}.
+	 *
+	 * @since 3.5
+	 */
+	public synchronized long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * Returns the total weight of all values (computed by the weigher),
+	 * or zero if no weigher is used.
+	 * Values that have been garbage collected are not included.
+	 *
+	 * @since 3.5
+	 */
+	public synchronized long getTotalWeight() {
+		expungeStaleEntries();
+		return totalWeight;
+	}
+
+	/**
+	 * Returns the number of entries that were removed because the maximum size
+	 * or maximum weight was exceeded or because the value was garbage collected.
+	 *
+	 * @since 3.5
+	 */
+	public synchronized long getEvictionCount() {
+		return evictionCount;
+	}
+
 	@SuppressWarnings( "unchecked" )
 	private void expungeStaleEntries() {
 		Reference<? extends V> reference;
-		while( (reference = queue.poll()) != null )
-			map.remove( ((CacheReference<K,V>)reference).key );
+		while( (reference = queue.poll()) != null ) {
+			CacheReference<K,V> ref = (CacheReference<K,V>) reference;
+			// remove only if not already replaced with a new value
+			if( map.remove( ref.key(), ref ) ) {
+				removed( ref );
+				evictionCount++;
+			}
+		}
 	}
 
-	//---- class CacheReference ----
+	//---- class KeySet ----
 
-	private static class CacheReference<K,V>
-		extends SoftReference<V>
+	private class KeySet
+		extends AbstractSet<K>
+	{
+		@Override
+		public int size() {
+			return SoftCache.this.size();
+		}
+
+		@Override
+		public boolean contains( Object key ) {
+			return containsKey( key );
+		}
+
+		@Override
+		public boolean remove( Object key ) {
+			synchronized( SoftCache.this ) {
+				expungeStaleEntries();
+				return removeRef( key ) != null;
+			}
+		}
+
+		@Override
+		public void clear() {
+			SoftCache.this.clear();
+		}
+
+		@Override
+		public Iterator<K> iterator() {
+			Iterator<K> it;
+			synchronized( SoftCache.this ) {
+				expungeStaleEntries();
+				it = new ArrayList<>( map.keySet() ).iterator();
+			}
+
+			return new Iterator<K>() {
+				private K lastKey;
+
+				@Override
+				public boolean hasNext() {
+					return it.hasNext();
+				}
+
+				@Override
+				public K next() {
+					lastKey = it.next();
+					return lastKey;
+				}
+
+				@Override
+				public void remove() {
+					it.remove();
+					SoftCache.this.remove( lastKey );
+				}
+			};
+		}
+	}
+
+	//---- interface CacheReference ----
+
+	private interface CacheReference<K,V>
 	{
 		// needed to remove reference from map in expungeStaleEntries()
-		final K key;
+		K key();
+		V get();
+
+		// needed to update total weight when removed (even if value was garbage collected)
+		long weight();
+	}
+
+	//---- class SoftCacheReference ----
+
+	private static class SoftCacheReference<K,V>
+		extends SoftReference<V>
+		implements CacheReference<K,V>
+	{
+		private final K key;
+		private final long weight;
+
+		SoftCacheReference( K key, V value, long weight, ReferenceQueue<? super V> queue ) {
+			super( value, queue );
+			this.key = key;
+			this.weight = weight;
+		}
+
+		@Override
+		public K key() {
+			return key;
+		}
+
+		@Override
+		public long weight() {
+			return weight;
+		}
+	}
+
+	//---- class WeakCacheReference ----
 
-		CacheReference( K key, V value, ReferenceQueue<? super V> queue ) {
+	private static class WeakCacheReference<K,V>
+		extends WeakReference<V>
+		implements CacheReference<K,V>
+	{
+		private final K key;
+		private final long weight;
+
+		WeakCacheReference( K key, V value, long weight, ReferenceQueue<? super V> queue ) {
 			super( value, queue );
 			this.key = key;
+			this.weight = weight;
+		}
+
+		@Override
+		public K key() {
+			return key;
+		}
+
+		@Override
+		public long weight() {
+			return weight;
 		}
 	}
 }
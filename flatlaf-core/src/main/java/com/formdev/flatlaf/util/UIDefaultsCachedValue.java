@@ -0,0 +1,127 @@
+/*
+ * Copyright 2024 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.util;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.swing.LookAndFeel;
+import javax.swing.UIManager;
+
+/**
+ * A value computed from UI defaults, which is automatically re-computed
+ * (on next access) if the look and feel, the UI defaults or the user scale factor changed.
+ * <p>
+ * Useful for code that is invoked very often (e.g. when painting or on input events)
+ * and needs some values from UI defaults, but should also reflect changes to UI defaults
+ * at any time (e.g. {@code UIManager.put( "ScrollPane.smoothScrolling", false )}).
+ * Instead of looking up the values (by string keys) on each invocation,
+ * the values are read once into a (usually immutable) object
+ * and accessed as plain fields.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * private static final UIDefaultsCachedValue<Boolean> smoothScrolling
+ *     = new UIDefaultsCachedValue<>( () -> UIManager.getBoolean( "ScrollPane.smoothScrolling" ) );
+ *
+ * boolean enabled = smoothScrolling.get();
+ * }</pre>
+ *
+ * @param <T> the type of the value
+ * @author Karl Tauber
+ * @since 3.5
+ */
+public class UIDefaultsCachedValue<T>
+{
+	private static final AtomicInteger generation = new AtomicInteger();
+	private static volatile boolean initialized;
+
+	private final Supplier<T> factory;
+	private volatile Entry<T> entry;
+
+	/**
+	 * @param factory invoked to compute the value; should read UI defaults values
+	 */
+	public UIDefaultsCachedValue( Supplier<T> factory ) {
+		this.factory = factory;
+	}
+
+	/**
+	 * Returns the value. Computes it if this is the first invocation or
+	 * if the UI defaults have changed since the value was computed.
+	 */
+	public T get() {
+		if( !initialized )
+			initialize();
+
+		// use local variables because other threads may change the fields
+		int generation = UIDefaultsCachedValue.generation.get();
+		Entry<T> entry = this.entry;
+		if( entry == null || entry.generation != generation ) {
+			entry = new Entry<>( generation, factory.get() );
+			this.entry = entry;
+		}
+		return entry.value;
+	}
+
+	/**
+	 * Returns the current UI defaults generation, which is incremented each time
+	 * the look and feel, the UI defaults or the user scale factor changed.
+	 */
+	public static int getGeneration() {
+		if( !initialized )
+			initialize();
+		return generation.get();
+	}
+
+	private static synchronized void initialize() {
+		if( initialized )
+			return;
+
+		// listener to increment generation if LaF, UI defaults or user scale factor changed
+		PropertyChangeListener listener = new PropertyChangeListener() {
+			@Override
+			public void propertyChange( PropertyChangeEvent e ) {
+				// it is not necessary (and possible) to remove listener of old LaF defaults
+				if( "lookAndFeel".equals( e.getPropertyName() ) && e.getNewValue() instanceof LookAndFeel )
+					UIManager.getLookAndFeelDefaults().addPropertyChangeListener( this );
+
+				generation.incrementAndGet();
+			}
+		};
+		UIManager.addPropertyChangeListener( listener );
+		UIManager.getDefaults().addPropertyChangeListener( listener );
+		UIManager.getLookAndFeelDefaults().addPropertyChangeListener( listener );
+		UIScale.addPropertyChangeListener( listener );
+
+		initialized = true;
+	}
+
+	//---- class Entry --------------------------------------------------------
+
+	private static class Entry<T>
+	{
+		final int generation;
+		final T value;
+
+		Entry( int generation, T value ) {
+			this.generation = generation;
+			this.value = value;
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2024 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.swing.LookAndFeel;
+import javax.swing.UIDefaults;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests reuse and discarding of UI defaults created by {@link FlatLaf#prepare(javax.swing.LookAndFeel)}.
+ *
+ * @author Karl Tauber
+ */
+public class TestFlatLafPrepare
+{
+	@Test
+	void reuse() throws Exception {
+		TestLaf laf = new TestLaf();
+		FlatLaf.prepare( laf ).get();
+		assertEquals( 1, laf.createCount.get() );
+
+		laf.getDefaults();
+		assertEquals( 1, laf.createCount.get() );
+
+		// prepared defaults are used only once
+		laf.getDefaults();
+		assertEquals( 2, laf.createCount.get() );
+	}
+
+	@Test
+	void discardOnChangedExtraDefaults() throws Exception {
+		TestLaf laf = new TestLaf();
+		FlatLaf.prepare( laf ).get();
+		assertEquals( 1, laf.createCount.get() );
+
+		laf.setExtraDefaults( Collections.singletonMap( "Test.value", "changed" ) );
+		UIDefaults defaults = laf.getDefaults();
+		assertEquals( 2, laf.createCount.get() );
+		assertEquals( "changed", defaults.get( "Test.value" ) );
+	}
+
+	@Test
+	void discardOnChangedLocale() throws Exception {
+		Locale oldLocale = Locale.getDefault();
+		try {
+			Locale.setDefault( Locale.ENGLISH );
+			TestLaf laf = new TestLaf();
+			FlatLaf.prepare( laf ).get();
+			assertEquals( 1, laf.createCount.get() );
+
+			Locale.setDefault( Locale.GERMAN );
+			laf.getDefaults();
+			assertEquals( 2, laf.createCount.get() );
+		} finally {
+			Locale.setDefault( oldLocale );
+		}
+	}
+
+	@Test
+	void capturedInputs() throws Exception {
+		TestLaf laf = new TestLaf();
+		laf.setExtraDefaults( Collections.singletonMap( "Test.value", "old" ) );
+		CountDownLatch blocker = new CountDownLatch( 1 );
+		laf.blocker = blocker;
+		CompletableFuture<LookAndFeel> future = FlatLaf.prepare( laf );
+
+		// modify extra defaults while preparing
+		laf.setExtraDefaults( Collections.singletonMap( "Test.value", "new" ) );
+		blocker.countDown();
+		future.get();
+
+		// background thread uses values captured when invoking prepare()
+		assertEquals( "old", laf.additionalValue );
+
+		// prepared defaults are discarded because of changed extra defaults
+		UIDefaults defaults = laf.getDefaults();
+		assertEquals( 2, laf.createCount.get() );
+		assertEquals( "new", defaults.get( "Test.value" ) );
+	}
+
+	//---- class TestLaf ------------------------------------------------------
+
+	private static class TestLaf
+		extends FlatLightLaf
+	{
+		final AtomicInteger createCount = new AtomicInteger();
+		volatile CountDownLatch blocker;
+		volatile String additionalValue;
+
+		@Override
+		protected Properties getAdditionalDefaults() {
+			// invoked once each time the UI defaults are created
+			createCount.incrementAndGet();
+
+			CountDownLatch blocker = this.blocker;
+			if( blocker != null ) {
+				this.blocker = null;
+				try {
+					blocker.await();
+				} catch( InterruptedException ex ) {
+					throw new RuntimeException( ex );
+				}
+			}
+
+			Properties properties = super.getAdditionalDefaults();
+			additionalValue = (properties != null) ? properties.getProperty( "Test.value" ) : null;
+			return properties;
+		}
+	}
+}
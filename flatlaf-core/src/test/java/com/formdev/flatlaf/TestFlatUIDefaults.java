@@ -0,0 +1,140 @@
+/*
+ * Copyright 2024 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.swing.UIDefaults;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the read cache of {@link FlatLaf.FlatUIDefaults}.
+ *
+ * @author Karl Tauber
+ */
+public class TestFlatUIDefaults
+{
+	@Test
+	void listenerGetsNewValue() {
+		UIDefaults defaults = new FlatLightLaf().getDefaults();
+		defaults.put( "Test.value", "old" );
+		assertEquals( "old", defaults.get( "Test.value" ) );
+
+		AtomicReference<Object> listenerValue = new AtomicReference<>();
+		defaults.addPropertyChangeListener( e -> {
+			if( "Test.value".equals( e.getPropertyName() ) )
+				listenerValue.set( defaults.get( "Test.value" ) );
+		} );
+
+		defaults.put( "Test.value", "new" );
+		assertEquals( "new", listenerValue.get() );
+		assertEquals( "new", defaults.get( "Test.value" ) );
+	}
+
+	@Test
+	void mapMethods() {
+		UIDefaults defaults = new FlatLightLaf().getDefaults();
+		assertNull( defaults.get( "Test.value" ) );
+
+		defaults.putAll( Collections.singletonMap( "Test.value", "putAll" ) );
+		assertEquals( "putAll", defaults.get( "Test.value" ) );
+
+		defaults.replace( "Test.value", "replace" );
+		assertEquals( "replace", defaults.get( "Test.value" ) );
+
+		defaults.replace( "Test.value", "replace", "replace2" );
+		assertEquals( "replace2", defaults.get( "Test.value" ) );
+
+		defaults.compute( "Test.value", (k, v) -> "compute" );
+		assertEquals( "compute", defaults.get( "Test.value" ) );
+
+		defaults.computeIfPresent( "Test.value", (k, v) -> "computeIfPresent" );
+		assertEquals( "computeIfPresent", defaults.get( "Test.value" ) );
+
+		defaults.merge( "Test.value", "merge", (v1, v2) -> v2 );
+		assertEquals( "merge", defaults.get( "Test.value" ) );
+
+		defaults.replaceAll( (k, v) -> "Test.value".equals( k ) ? "replaceAll" : v );
+		assertEquals( "replaceAll", defaults.get( "Test.value" ) );
+
+		defaults.remove( "Test.value", "replaceAll" );
+		assertNull( defaults.get( "Test.value" ) );
+
+		defaults.computeIfAbsent( "Test.value", k -> "computeIfAbsent" );
+		assertEquals( "computeIfAbsent", defaults.get( "Test.value" ) );
+
+		defaults.remove( "Test.value" );
+		defaults.putIfAbsent( "Test.value", "putIfAbsent" );
+		assertEquals( "putIfAbsent", defaults.get( "Test.value" ) );
+	}
+
+	@Test
+	void activeValues() {
+		UIDefaults defaults = new FlatLightLaf().getDefaults();
+		int[] counter = new int[1];
+
+		defaults.compute( "Test.active", (k, v) -> (UIDefaults.ActiveValue) t -> ++counter[0] );
+		assertEquals( 1, defaults.get( "Test.active" ) );
+		assertEquals( 2, defaults.get( "Test.active" ) );
+	}
+
+	@Test
+	void views() {
+		UIDefaults defaults = new FlatLightLaf().getDefaults();
+		defaults.put( "Test.value", "put" );
+		assertEquals( "put", defaults.get( "Test.value" ) );
+
+		for( Map.Entry<Object, Object> e : defaults.entrySet() ) {
+			if( "Test.value".equals( e.getKey() ) )
+				e.setValue( "setValue" );
+		}
+		assertEquals( "setValue", defaults.get( "Test.value" ) );
+
+		defaults.values().removeIf( v -> "setValue".equals( v ) );
+		assertNull( defaults.get( "Test.value" ) );
+
+		defaults.put( "Test.value", "put" );
+		assertEquals( "put", defaults.get( "Test.value" ) );
+		defaults.keySet().removeIf( k -> "Test.value".equals( k ) );
+		assertNull( defaults.get( "Test.value" ) );
+
+		defaults.put( "Test.value", "put" );
+		assertEquals( "put", defaults.get( "Test.value" ) );
+		defaults.entrySet().removeIf( e -> "Test.value".equals( e.getKey() ) );
+		assertNull( defaults.get( "Test.value" ) );
+	}
+
+	@Test
+	void activeValueReplaced() {
+		UIDefaults defaults = new FlatLightLaf().getDefaults();
+		int[] counter = new int[1];
+
+		defaults.put( "Test.active", (UIDefaults.ActiveValue) t -> ++counter[0] );
+		assertEquals( 1, defaults.get( "Test.active" ) );
+
+		// not replaced because value is not equal
+		defaults.replace( "Test.active", "other", "replaced" );
+		assertEquals( 2, defaults.get( "Test.active" ) );
+
+		defaults.put( "Test.active", "plain" );
+		assertEquals( "plain", defaults.get( "Test.active" ) );
+		assertEquals( 2, counter[0] );
+	}
+}
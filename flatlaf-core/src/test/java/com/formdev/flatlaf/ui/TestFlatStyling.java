@@ -17,6 +17,8 @@
 package com.formdev.flatlaf.ui;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.awt.Color;
 import java.awt.Dimension;
@@ -75,6 +77,40 @@ public class TestFlatStyling
 			FlatStylingSupport.parse( "background: #fff; foreground: #000; someWidth: 20" ) );
 	}
 
+	@Test
+	void parseCached() {
+		Map<String, Object> map = FlatStylingSupport.parseCached( "background: $var2Resolved" );
+		assertEquals( expectedMap( "background", Color.red ), map );
+		assertSame( map, FlatStylingSupport.parseCached( "background: $var2Resolved" ) );
+
+		// cache is cleared if UI defaults change
+		UIManager.put( "var2Resolved", Color.blue );
+		try {
+			assertEquals( expectedMap( "background", Color.blue ),
+				FlatStylingSupport.parseCached( "background: $var2Resolved" ) );
+		} finally {
+			UIManager.put( "var2Resolved", null );
+		}
+		assertEquals( expectedMap( "background", Color.red ),
+			FlatStylingSupport.parseCached( "background: $var2Resolved" ) );
+	}
+
+	@Test
+	void parseCachedMutableValues() {
+		// insets are copied when applied
+		JButton b1 = new JButton();
+		JButton b2 = new JButton();
+		b1.putClientProperty( "FlatLaf.style", "margin: 1,2,3,4" );
+		b2.putClientProperty( "FlatLaf.style", "margin: 1,2,3,4" );
+		assertEquals( new Insets( 1, 2, 3, 4 ), b1.getMargin() );
+		assertEquals( b1.getMargin(), b2.getMargin() );
+		assertNotSame( b1.getMargin(), b2.getMargin() );
+
+		// styles that contain borders are not cached
+		assertNotSame( FlatStylingSupport.parseCached( "border: 1,2,3,4" ),
+			FlatStylingSupport.parseCached( "border: 1,2,3,4" ) );
+	}
+
 	@Test
 	void parseIfFunction() {
 		testColorStyle( 0x00ff00, "if(#000,#0f0,#dfd)" );
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2024 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Karl Tauber
+ */
+public class TestSoftCache
+{
+	@Test
+	void maxSize() {
+		SoftCache<String, String> cache = new SoftCache<>( 16, 3, false );
+		cache.put( "a", "1" );
+		cache.put( "b", "2" );
+		cache.put( "c", "3" );
+
+		// access "a" so that "b" becomes least recently used
+		assertEquals( "1", cache.get( "a" ) );
+
+		cache.put( "d", "4" );
+		assertEquals( 3, cache.size() );
+		assertNull( cache.get( "b" ) );
+		assertEquals( Arrays.asList( "c", "a", "d" ), Arrays.asList( cache.keySet().toArray() ) );
+
+		assertEquals( 1, cache.getHitCount() );
+		assertEquals( 1, cache.getMissCount() );
+		assertEquals( 1, cache.getEvictionCount() );
+	}
+
+	@Test
+	void maxWeight() {
+		SoftCache<String, String> cache = new SoftCache<>( 16, 10, String::length, false );
+		cache.put( "a", "1234" );
+		cache.put( "b", "1234" );
+		assertEquals( 8, cache.getTotalWeight() );
+
+		// access "a" so that "b" becomes least recently used
+		assertEquals( "1234", cache.get( "a" ) );
+
+		cache.put( "c", "123" );
+		assertEquals( Arrays.asList( "a", "c" ), Arrays.asList( cache.keySet().toArray() ) );
+		assertEquals( 7, cache.getTotalWeight() );
+		assertEquals( 1, cache.getEvictionCount() );
+
+		// replace and remove update weight
+		cache.put( "a", "12" );
+		assertEquals( 5, cache.getTotalWeight() );
+		cache.remove( "c" );
+		assertEquals( 2, cache.getTotalWeight() );
+
+		// new entry is kept even if it exceeds maximum weight
+		cache.put( "d", "12345678901" );
+		assertEquals( Arrays.asList( "d" ), Arrays.asList( cache.keySet().toArray() ) );
+		assertEquals( 11, cache.getTotalWeight() );
+
+		cache.clear();
+		assertEquals( 0, cache.getTotalWeight() );
+	}
+
+	@Test
+	void computeIfAbsent() {
+		SoftCache<String, String> cache = new SoftCache<>();
+		AtomicInteger count = new AtomicInteger();
+
+		assertEquals( "a1", cache.computeIfAbsent( "a", key -> key + count.incrementAndGet() ) );
+		assertEquals( "a1", cache.computeIfAbsent( "a", key -> key + count.incrementAndGet() ) );
+		assertEquals( 1, count.get() );
+		assertEquals( Arrays.asList( "a1" ), cache.values() );
+	}
+
+	@Test
+	void keySetView() {
+		SoftCache<String, String> cache = new SoftCache<>();
+		cache.put( "a", "1" );
+		cache.put( "b", "2" );
+		cache.put( "c", "3" );
+
+		Set<String> keys = cache.keySet();
+		assertTrue( keys.remove( "a" ) );
+		assertFalse( keys.remove( "a" ) );
+		assertNull( cache.get( "a" ) );
+
+		keys.retainAll( Collections.singleton( "b" ) );
+		assertEquals( 1, cache.size() );
+		assertEquals( "2", cache.get( "b" ) );
+
+		// view reflects changes of cache
+		cache.put( "d", "4" );
+		assertEquals( 2, keys.size() );
+		assertTrue( keys.contains( "d" ) );
+
+		// modifying cache while iterating
+		for( Iterator<String> it = keys.iterator(); it.hasNext(); ) {
+			String key = it.next();
+			cache.put( key + key, "x" );
+			it.remove();
+		}
+		assertEquals( new HashSet<>( Arrays.asList( "bb", "dd" ) ), keys );
+	}
+
+	@Test
+	void weakValues() throws InterruptedException {
+		SoftCache<String, Object> cache = new SoftCache<>( 16, 0, true );
+		Object value = new Object();
+		cache.put( "a", value );
+		cache.put( "b", new Object() );
+		assertEquals( 2, cache.size() );
+
+		// weakly referenced value "b" is removed after garbage collection
+		for( int i = 0; i < 100 && cache.size() > 1; i++ ) {
+			System.gc();
+			Thread.sleep( 10 );
+		}
+		assertEquals( 1, cache.size() );
+		assertSame( value, cache.get( "a" ) );
+		assertNull( cache.get( "b" ) );
+		assertEquals( 1, cache.getEvictionCount() );
+	}
+}
@@ -19,35 +19,51 @@ package com.formdev.flatlaf.extras;
 import java.awt.Color;
 import java.awt.Component;
 import java.awt.Dimension;
+import java.awt.EventQueue;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.Paint;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.awt.image.RGBImageFilter;
+import java.awt.print.PrinterGraphics;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.WeakReference;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import javax.swing.Icon;
 import javax.swing.ImageIcon;
+import javax.swing.LookAndFeel;
 import javax.swing.UIManager;
 import com.formdev.flatlaf.FlatIconColors;
 import com.formdev.flatlaf.FlatLaf;
 import com.formdev.flatlaf.FlatLaf.DisabledIconProvider;
+import com.formdev.flatlaf.FlatSystemProperties;
 import com.formdev.flatlaf.util.Graphics2DProxy;
 import com.formdev.flatlaf.util.GrayFilter;
 import com.formdev.flatlaf.util.LoggingFacade;
 import com.formdev.flatlaf.util.MultiResolutionImageSupport;
 import com.formdev.flatlaf.util.SoftCache;
+import com.formdev.flatlaf.util.UIDefaultsCachedValue;
 import com.formdev.flatlaf.util.UIScale;
 import com.github.weisj.jsvg.SVGDocument;
 import com.github.weisj.jsvg.geometry.size.FloatSize;
@@ -64,7 +80,22 @@ public class FlatSVGIcon
 {
 	// cache that uses soft references for values, which allows freeing SVG documents if no longer used
 	private static final SoftCache<String, SVGDocument> svgCache = new SoftCache<>();
-	private static final SVGLoader svgLoader = new SVGLoader();
+	private static final ThreadLocal<SVGLoader> svgLoader = ThreadLocal.withInitial( SVGLoader::new );
+	private static final ConcurrentHashMap<String, CompletableFuture<SVGDocument>> svgLoading = new ConcurrentHashMap<>();
+
+	// LRU cache of icons rendered at device resolution; uses soft references for images
+	private static final long IMAGE_CACHE_MAX_BYTES = 16 * 1024 * 1024;
+	private static final int IMAGE_MAX_PIXELS = 256 * 256;
+	private static final boolean imageCacheEnabled = FlatSystemProperties.getBoolean( "flatlaf.svgIconImageCache", true );
+	private static final SoftCache<ImageKey, BufferedImage> imageCache = new SoftCache<>( 64,
+		IMAGE_CACHE_MAX_BYTES, image -> image.getWidth() * image.getHeight() * 4L, false );
+	private static boolean imageCacheListenerAdded;
+
+	// gray filter from UI defaults (or null)
+	private static final UIDefaultsCachedValue<RGBImageFilter> uiGrayFilterValue = new UIDefaultsCachedValue<>( () -> {
+		Object grayFilter = UIManager.get( "Component.grayFilter" );
+		return (grayFilter instanceof RGBImageFilter) ? (RGBImageFilter) grayFilter : null;
+	} );
 
 	private final String name;
 	private final int width;
@@ -77,9 +108,13 @@ public class FlatSVGIcon
 	private ColorFilter colorFilter;
 
 	private SVGDocument document;
+	private String documentUri;
 	private boolean dark;
 	private boolean loadFailed;
 
+	// components to repaint when SVG document is loaded in another thread
+	private List<Component> pendingRepaints;
+
 	/**
 	 * Creates an SVG icon from the given resource name.
 	 * <p>
@@ -267,7 +302,7 @@ public class FlatSVGIcon
 		this( null, -1, -1, 1, false, null, null );
 
 		try( InputStream in2 = in ) {
-			document = svgLoader.load( in2 );
+			document = svgLoader.get().load( in2 );
 
 			if( document == null ) {
 				loadFailed = true;
@@ -287,6 +322,7 @@ public class FlatSVGIcon
 		this( icon.name, icon.width, icon.height, icon.scale, icon.disabled, icon.classLoader, icon.url );
 		colorFilter = icon.colorFilter;
 		document = icon.document;
+		documentUri = icon.documentUri;
 		dark = icon.dark;
 	}
 
@@ -381,6 +417,7 @@ public class FlatSVGIcon
 		FlatSVGIcon icon = new FlatSVGIcon( name, width, height, scale, disabled, classLoader, url );
 		icon.colorFilter = colorFilter;
 		icon.document = document;
+		icon.documentUri = documentUri;
 		icon.dark = dark;
 		return icon;
 	}
@@ -400,6 +437,7 @@ public class FlatSVGIcon
 		FlatSVGIcon icon = new FlatSVGIcon( name, width, height, scale, disabled, classLoader, url );
 		icon.colorFilter = colorFilter;
 		icon.document = document;
+		icon.documentUri = documentUri;
 		icon.dark = dark;
 		return icon;
 	}
@@ -419,6 +457,7 @@ public class FlatSVGIcon
 		FlatSVGIcon icon = new FlatSVGIcon( name, width, height, scale, true, classLoader, url );
 		icon.colorFilter = colorFilter;
 		icon.document = document;
+		icon.documentUri = documentUri;
 		icon.dark = dark;
 		return icon;
 	}
@@ -454,17 +493,31 @@ public class FlatSVGIcon
 	}
 
 	private void update() {
-		if( loadFailed )
-			return;
+		update( true, null );
+	}
 
-		if( dark == isDarkLaf() && document != null )
-			return;
+	/**
+	 * Loads the SVG document, if necessary.
+	 * <p>
+	 * If {@code wait} is {@code false} and the SVG document is currently loaded in another thread
+	 * (e.g. using {@link #preload(Collection, Executor)}), then this method does not wait.
+	 * Instead, the given component (if not {@code null}) is repainted when the SVG document is loaded.
+	 *
+	 * @return {@code false} if the SVG document is currently loaded in another thread
+	 */
+	private boolean update( boolean wait, Component c ) {
+		if( loadFailed )
+			return true;
 
-		dark = isDarkLaf();
+		boolean dark = isDarkLaf();
+		if( this.dark == dark && document != null )
+			return true;
 
 		// SVGs already loaded via url, file or input stream can not have light/dark variants
-		if( document != null && name == null )
-			return;
+		if( document != null && name == null ) {
+			this.dark = dark;
+			return true;
+		}
 
 		URL url = this.url;
 		if( url == null ) {
@@ -473,36 +526,117 @@ public class FlatSVGIcon
 				url = getIconURL( name, false );
 
 			if( url == null ) {
+				this.dark = dark;
 				loadFailed = true;
 				LoggingFacade.INSTANCE.logConfig( "FlatSVGIcon: resource '" + name + "' not found (if using Java modules, check whether icon package is opened in module-info.java)", null );
-				return;
+				return true;
 			}
 		}
 
+		// do not wait if SVG document is loaded in another thread
+		if( !wait ) {
+			CompletableFuture<SVGDocument> future = svgLoading.get( url.toString() );
+			if( future != null && !future.isDone() ) {
+				if( c != null )
+					repaintWhenLoaded( c, future );
+				return false;
+			}
+		}
+
+		this.dark = dark;
 		document = loadSVG( url );
+		documentUri = url.toString();
 		loadFailed = (document == null);
+		return true;
+	}
+
+	/**
+	 * Repaints the given component when the SVG document is loaded.
+	 * Only one callback per icon is registered, even if the icon
+	 * is painted multiple times (or in multiple components) while loading.
+	 */
+	private void repaintWhenLoaded( Component c, CompletableFuture<SVGDocument> future ) {
+		if( pendingRepaints == null ) {
+			pendingRepaints = new ArrayList<>();
+			future.thenRun( () -> EventQueue.invokeLater( () -> {
+				List<Component> components = pendingRepaints;
+				pendingRepaints = null;
+
+				for( Component comp : components ) {
+					// icon size may have changed
+					if( width <= 0 || height <= 0 )
+						comp.revalidate();
+					comp.repaint();
+				}
+			} ) );
+		}
+
+		if( !pendingRepaints.contains( c ) )
+			pendingRepaints.add( c );
 	}
 
-	static synchronized SVGDocument loadSVG( URL url ) {
+	static SVGDocument loadSVG( URL url ) {
 		// get from our cache
 		String cacheKey = url.toString();
 		SVGDocument document = svgCache.get( cacheKey );
 		if( document != null )
 			return document;
 
-		// load SVG document
-		document = svgLoader.load( url );
-
-		if( document == null ) {
-			LoggingFacade.INSTANCE.logSevere( "FlatSVGIcon: failed to load '" + url + "'", null );
-			return null;
+		// check whether SVG document is currently loaded in another thread
+		CompletableFuture<SVGDocument> future = new CompletableFuture<>();
+		CompletableFuture<SVGDocument> loadingFuture = svgLoading.putIfAbsent( cacheKey, future );
+		if( loadingFuture != null ) {
+			// wait until loaded in other thread
+			return loadingFuture.join();
 		}
 
-		svgCache.put( cacheKey, document );
+		try {
+			// load SVG document
+			document = svgLoader.get().load( url );
+
+			if( document == null )
+				LoggingFacade.INSTANCE.logSevere( "FlatSVGIcon: failed to load '" + url + "'", null );
+			else
+				svgCache.put( cacheKey, document );
+		} catch( RuntimeException ex ) {
+			LoggingFacade.INSTANCE.logSevere( "FlatSVGIcon: failed to load '" + url + "'", ex );
+			document = null;
+		} finally {
+			svgLoading.remove( cacheKey );
+			future.complete( document );
+		}
 
 		return document;
 	}
 
+	/**
+	 * Loads the SVG documents of the given resource names in background
+	 * using the given executor. Use this method to load icons at application
+	 * startup, before they are painted the first time.
+	 * <p>
+	 * Icons that are painted while their SVG document is loaded in background,
+	 * do not block painting. They paint a placeholder (an outlined box)
+	 * and are repainted when loaded.
+	 * <p>
+	 * SVG documents for the current look and feel are loaded
+	 * (e.g. {@code myicon_dark.svg} if current look and feel is dark).
+	 *
+	 * @param names the names of the SVG resources (a '/'-separated path; e.g. {@code "com/myapp/myicon.svg"})
+	 * @param executor the executor used to load the SVG documents
+	 * @return a future that completes when all SVG documents are loaded
+	 * @see ClassLoader#getResource(String)
+	 * @since 3.5
+	 */
+	public static CompletableFuture<Void> preload( Collection<String> names, Executor executor ) {
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[names.size()];
+		int i = 0;
+		for( String name : names ) {
+			FlatSVGIcon icon = new FlatSVGIcon( name );
+			futures[i++] = CompletableFuture.runAsync( icon::update, executor );
+		}
+		return CompletableFuture.allOf( futures );
+	}
+
 	private URL getIconURL( String name, boolean dark ) {
 		if( dark ) {
 			int dotIndex = name.lastIndexOf( '.' );
@@ -525,25 +659,31 @@ public class FlatSVGIcon
 
 	/**
 	 * Returns the scaled width of the icon.
+	 * <p>
+	 * If the SVG document is currently loaded in another thread,
+	 * then this method does not wait and returns a default width.
 	 */
 	@Override
 	public int getIconWidth() {
 		if( width > 0 )
 			return scaleSize( width );
 
-		update();
+		update( false, null );
 		return scaleSize( (document != null) ? Math.round( document.size().width ) : 16 );
 	}
 
 	/**
 	 * Returns the scaled height of the icon.
+	 * <p>
+	 * If the SVG document is currently loaded in another thread,
+	 * then this method does not wait and returns a default height.
 	 */
 	@Override
 	public int getIconHeight() {
 		if( height > 0 )
 			return scaleSize( height );
 
-		update();
+		update( false, null );
 		return scaleSize( (document != null) ? Math.round( document.size().height ) : 16 );
 	}
 
@@ -556,7 +696,11 @@ public class FlatSVGIcon
 
 	@Override
 	public void paintIcon( Component c, Graphics g, int x, int y ) {
-		update();
+		if( !update( false, c ) ) {
+			// SVG document is loaded in another thread; component is repainted when loaded
+			paintPlaceholder( g, x, y );
+			return;
+		}
 
 		// check whether icon is outside of clipping area
 		Rectangle clipBounds = g.getClipBounds();
@@ -566,12 +710,16 @@ public class FlatSVGIcon
 		// get gray filter
 		RGBImageFilter grayFilter = null;
 		if( disabled ) {
-			Object grayFilterObj = UIManager.get( "Component.grayFilter" );
-			grayFilter = (grayFilterObj instanceof RGBImageFilter)
-				? (RGBImageFilter) grayFilterObj
-				: GrayFilter.createDisabledIconFilter( dark );
+			RGBImageFilter uiGrayFilter = uiGrayFilterValue.get();
+			grayFilter = (uiGrayFilter != null)
+				? uiGrayFilter
+				: FlatLaf.getFallbackGrayFilter( dark );
 		}
 
+		// paint cached image
+		if( document != null && paintCachedImage( g, x, y, grayFilter ) )
+			return;
+
 		Graphics2D g2 = new GraphicsFilter( (Graphics2D) g.create(), colorFilter, ColorFilter.getInstance(), grayFilter );
 
 		try {
@@ -583,6 +731,101 @@ public class FlatSVGIcon
 		}
 	}
 
+	/**
+	 * Paints the icon from an image cache, which contains the icon rendered at
+	 * device resolution. This avoids rendering the SVG document on each paint.
+	 * <p>
+	 * Only used if the graphics transform is translated and/or scaled (HiDPI),
+	 * but not rotated or sheared, and if the icon is painted at whole device pixels
+	 * (otherwise anti-aliasing would be different). Not used when printing.
+	 * <p>
+	 * Not used if the icon color filter or the global color filter has a mapper function,
+	 * because mapper functions may return different colors on each invocation.
+	 *
+	 * @return {@code true} if the icon was painted
+	 */
+	private boolean paintCachedImage( Graphics g, int x, int y, RGBImageFilter grayFilter ) {
+		if( !imageCacheEnabled || !(g instanceof Graphics2D) || g instanceof PrinterGraphics )
+			return false;
+
+		ColorFilter globalColorFilter = ColorFilter.getInstance();
+		if( (colorFilter != null && colorFilter.getMapper() != null) || globalColorFilter.getMapper() != null )
+			return false;
+
+		AffineTransform t = ((Graphics2D)g).getTransform();
+		if( (t.getType() & ~(AffineTransform.TYPE_TRANSLATION | AffineTransform.TYPE_MASK_SCALE)) != 0 ||
+			t.getScaleX() <= 0 || t.getScaleY() <= 0 )
+			return false;
+
+		int iconWidth = getIconWidth();
+		int iconHeight = getIconHeight();
+		double scaleX = t.getScaleX();
+		double scaleY = t.getScaleY();
+		double imageWidth = iconWidth * scaleX;
+		double imageHeight = iconHeight * scaleY;
+		if( !isWholeNumber( imageWidth ) || !isWholeNumber( imageHeight ) ||
+			!isWholeNumber( t.getTranslateX() + (x * scaleX) ) ||
+			!isWholeNumber( t.getTranslateY() + (y * scaleY) ) )
+			return false;
+		if( imageWidth <= 0 || imageHeight <= 0 || imageWidth * imageHeight > IMAGE_MAX_PIXELS )
+			return false;
+
+		ImageKey key = new ImageKey( document, documentUri, width, height, scale, iconWidth, iconHeight, scaleX, scaleY,
+			colorFilter, (colorFilter != null) ? colorFilter.modCount : 0, globalColorFilter.modCount,
+			grayFilter );
+
+		BufferedImage image = getCachedImage( key );
+		if( image == null ) {
+			// render icon at device resolution
+			image = new BufferedImage( (int) imageWidth, (int) imageHeight, BufferedImage.TYPE_INT_ARGB );
+			Graphics2D g2 = new GraphicsFilter( image.createGraphics(), colorFilter, globalColorFilter, grayFilter );
+			try {
+				setRenderingHints( g2 );
+				g2.scale( scaleX, scaleY );
+
+				paintSvg( g2, 0, 0 );
+			} finally {
+				g2.dispose();
+			}
+
+			imageCache.put( key, image );
+		}
+
+		// image size in device pixels is equal to icon size,
+		// so drawing image does not scale it
+		g.drawImage( image, x, y, iconWidth, iconHeight, null );
+		return true;
+	}
+
+	private static boolean isWholeNumber( double value ) {
+		return value == Math.rint( value );
+	}
+
+	private static BufferedImage getCachedImage( ImageKey key ) {
+		synchronized( imageCache ) {
+			if( !imageCacheListenerAdded ) {
+				// listener to clear cache if LaF changed or UI defaults changed
+				// (global color filter maps colors to values in UI defaults)
+				imageCacheListenerAdded = true;
+				PropertyChangeListener listener = new PropertyChangeListener() {
+					@Override
+					public void propertyChange( PropertyChangeEvent e ) {
+						// it is not necessary (and possible) to remove listener of old LaF defaults
+						if( "lookAndFeel".equals( e.getPropertyName() ) && e.getNewValue() instanceof LookAndFeel )
+							UIManager.getLookAndFeelDefaults().addPropertyChangeListener( this );
+
+						imageCache.clear();
+					}
+				};
+				UIManager.addPropertyChangeListener( listener );
+				UIManager.getDefaults().addPropertyChangeListener( listener );
+				UIManager.getLookAndFeelDefaults().addPropertyChangeListener( listener );
+			}
+		}
+
+		return imageCache.get( key );
+	}
+
 	private void paintSvg( Graphics2D g, int x, int y ) {
 		if( document == null ) {
 			paintSvgError( g, x, y );
@@ -610,6 +853,15 @@ public class FlatSVGIcon
 		}
 	}
 
+	/**
+	 * Paints an outlined box at icon size while the SVG document is loaded.
+	 */
+	private void paintPlaceholder( Graphics g, int x, int y ) {
+		Color color = UIManager.getColor( "Component.borderColor" );
+		g.setColor( (color != null) ? color : Color.lightGray );
+		g.drawRect( x, y, getIconWidth() - 1, getIconHeight() - 1 );
+	}
+
 	private void paintSvgError( Graphics2D g, int x, int y ) {
 		g.setColor( Color.red );
 		g.fillRect( x, y, getIconWidth(), getIconHeight() );
@@ -714,6 +966,9 @@ public class FlatSVGIcon
 		private Map<Color, Color> darkColorMap;
 		private Function<Color, Color> mapper;
 
+		// incremented on each change; used to invalidate cached images
+		volatile int modCount;
+
 		/**
 		 * Returns the global ColorFilter that is applied to all icons.
 		 */
@@ -772,12 +1027,17 @@ public class FlatSVGIcon
 		 * <p>
 		 * Using a ColorFilter, icons can also be turned monochrome (painted with a single color):
 		 * <pre>filter.setMapper( color -&gt; Color.RED );</pre>
+		 * <p>
+		 * Note: Icons are not cached as images if a mapper function is set
+		 * (in this color filter or in the global color filter),
+		 * so the mapper function may return different colors on each invocation.
 		 *
 		 * @param mapper The color mapper function
 		 * @since 1.2
 		 */
 		public void setMapper( Function<Color, Color> mapper ) {
 			this.mapper = mapper;
+			modCount++;
 		}
 
 		/**
@@ -811,6 +1071,7 @@ public class FlatSVGIcon
 			colorMap.putAll( from2toMap );
 			if( darkColorMap != null )
 				darkColorMap.putAll( from2toMap );
+			modCount++;
 			return this;
 		}
 
@@ -825,6 +1086,7 @@ public class FlatSVGIcon
 
 			colorMap.putAll( from2toLightMap );
 			darkColorMap.putAll( from2toDarkMap );
+			modCount++;
 			return this;
 		}
 
@@ -837,6 +1099,7 @@ public class FlatSVGIcon
 			colorMap.put( from, to );
 			if( darkColorMap != null )
 				darkColorMap.put( from, to );
+			modCount++;
 			return this;
 		}
 
@@ -853,6 +1116,7 @@ public class FlatSVGIcon
 				colorMap.put( from, toLight );
 			if( toDark != null )
 				darkColorMap.put( from, toDark );
+			modCount++;
 			return this;
 		}
 
@@ -864,6 +1128,7 @@ public class FlatSVGIcon
 				colorMap.remove( from );
 			if( darkColorMap != null )
 				darkColorMap.remove( from );
+			modCount++;
 			return this;
 		}
 
@@ -875,6 +1140,7 @@ public class FlatSVGIcon
 		public ColorFilter removeAll() {
 			colorMap = null;
 			darkColorMap = null;
+			modCount++;
 			return this;
 		}
 
@@ -943,6 +1209,81 @@ public class FlatSVGIcon
 		}
 	}
 
+	//---- class ImageKey -----------------------------------------------------
+
+	private static class ImageKey
+	{
+		// URI of SVG document; or weak reference to SVG document if loaded from input stream
+		// (does not reference SVG document strongly, which allows garbage collection of unused documents)
+		private final String documentUri;
+		private final WeakReference<SVGDocument> document;
+		private final int width;
+		private final int height;
+		private final float scale;
+		private final int iconWidth;
+		private final int iconHeight;
+		private final double scaleX;
+		private final double scaleY;
+		private final ColorFilter colorFilter;
+		private final int colorFilterModCount;
+		private final int globalColorFilterModCount;
+		private final RGBImageFilter grayFilter;
+		private final int hashCode;
+
+		ImageKey( SVGDocument document, String documentUri, int width, int height, float scale,
+			int iconWidth, int iconHeight, double scaleX, double scaleY, ColorFilter colorFilter,
+			int colorFilterModCount, int globalColorFilterModCount, RGBImageFilter grayFilter )
+		{
+			this.documentUri = documentUri;
+			this.document = (documentUri == null) ? new WeakReference<>( document ) : null;
+			this.width = width;
+			this.height = height;
+			this.scale = scale;
+			this.iconWidth = iconWidth;
+			this.iconHeight = iconHeight;
+			this.scaleX = scaleX;
+			this.scaleY = scaleY;
+			this.colorFilter = colorFilter;
+			this.colorFilterModCount = colorFilterModCount;
+			this.globalColorFilterModCount = globalColorFilterModCount;
+			this.grayFilter = grayFilter;
+
+			hashCode = Objects.hash( (documentUri != null) ? documentUri : System.identityHashCode( document ), width, height, scale,
+				iconWidth, iconHeight, scaleX, scaleY, System.identityHashCode( colorFilter ),
+				colorFilterModCount, globalColorFilterModCount, System.identityHashCode( grayFilter ) );
+		}
+
+		@Override
+		public boolean equals( Object obj ) {
+			if( obj == this )
+				return true;
+			if( !(obj instanceof ImageKey) )
+				return false;
+
+			// keys of garbage collected documents are only equal to themselves
+			ImageKey key = (ImageKey) obj;
+			return (documentUri != null
+					? documentUri.equals( key.documentUri )
+					: (key.documentUri == null && document.get() != null && document.get() == key.document.get())) &&
+				width == key.width &&
+				height == key.height &&
+				scale == key.scale &&
+				iconWidth == key.iconWidth &&
+				iconHeight == key.iconHeight &&
+				scaleX == key.scaleX &&
+				scaleY == key.scaleY &&
+				colorFilter == key.colorFilter &&
+				colorFilterModCount == key.colorFilterModCount &&
+				globalColorFilterModCount == key.globalColorFilterModCount &&
+				grayFilter == key.grayFilter;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
 	//---- class GraphicsFilter -----------------------------------------------
 
 	private static class GraphicsFilter
@@ -34,6 +34,11 @@ import com.formdev.flatlaf.util.FontUtils;
  * FlatInterFont.installLazy();
  * }</pre>
  * <p>
+ * For loading in background (without blocking startup) use:
+ * <pre>{@code
+ * FlatInterFont.installAsync();
+ * }</pre>
+ * <p>
  * Or load immediately with:
  * <pre>{@code
  * FlatInterFont.install();
@@ -156,6 +161,20 @@ public class FlatInterFont
 		FontUtils.registerFontFamilyLoader( FAMILY_SEMIBOLD, FlatInterFont::installSemiBold );
 	}
 
+	/**
+	 * Loads the fonts asynchronously on a background thread
+	 * via {@link FontUtils#loadFontFamilyAsync(String, Runnable)}.
+	 * <p>
+	 * Use this to remove font loading from the startup critical path.
+	 * If FlatLaf (or {@link FontUtils#loadFontFamily(String)}) requests a font family
+	 * before it is loaded, then it waits until loading is finished.
+	 */
+	public static void installAsync() {
+		FontUtils.loadFontFamilyAsync( FAMILY, FlatInterFont::installBasic );
+		FontUtils.loadFontFamilyAsync( FAMILY_LIGHT, FlatInterFont::installLight );
+		FontUtils.loadFontFamilyAsync( FAMILY_SEMIBOLD, FlatInterFont::installSemiBold );
+	}
+
 	/**
 	 * Creates and registers the fonts for all styles.
 	 * <p>
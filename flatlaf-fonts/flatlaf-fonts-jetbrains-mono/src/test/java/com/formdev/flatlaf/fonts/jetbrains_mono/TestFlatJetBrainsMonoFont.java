@@ -17,8 +17,12 @@
 package com.formdev.flatlaf.fonts.jetbrains_mono;
 
 import java.awt.Font;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.Test;
+import com.formdev.flatlaf.util.FontUtils;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author Karl Tauber
@@ -35,6 +39,29 @@ class TestFlatJetBrainsMonoFont
 		testFont( FlatJetBrainsMonoFont.FAMILY, Font.BOLD | Font.ITALIC, 13 );
 	}
 
+	@Test
+	void testFontAsync() {
+		// the fonts may be already registered by testFont(), so use a loader
+		// that takes some time and check the future to verify that
+		// loadFontFamily() waits until the loader is finished
+		CompletableFuture<Void> future = FontUtils.loadFontFamilyAsync( FlatJetBrainsMonoFont.FAMILY, () -> {
+			try {
+				Thread.sleep( 200 );
+			} catch( InterruptedException ex ) {
+				// ignore
+			}
+			FlatJetBrainsMonoFont.install();
+		} );
+
+		// waits until font family is loaded
+		FontUtils.loadFontFamily( FlatJetBrainsMonoFont.FAMILY );
+		assertTrue( future.isDone() );
+		assertFalse( future.isCompletedExceptionally() );
+
+		testFont( FlatJetBrainsMonoFont.FAMILY, Font.PLAIN, 13 );
+		testFont( FlatJetBrainsMonoFont.FAMILY, Font.BOLD | Font.ITALIC, 13 );
+	}
+
 	private void testFont( String family, int style, int size ) {
 		Font actual = new Font( family, style, size );
 		assertEquals( family, actual.getFamily() );
@@ -31,6 +31,11 @@ import com.formdev.flatlaf.util.FontUtils;
  * FlatRobotoMonoFont.installLazy();
  * }</pre>
  * <p>
+ * For loading in background (without blocking startup) use:
+ * <pre>{@code
+ * FlatRobotoMonoFont.installAsync();
+ * }</pre>
+ * <p>
  * Or load immediately with:
  * <pre>{@code
  * FlatRobotoMonoFont.install();
@@ -109,6 +114,18 @@ public class FlatRobotoMonoFont
 		FontUtils.registerFontFamilyLoader( FAMILY, FlatRobotoMonoFont::install );
 	}
 
+	/**
+	 * Loads the fonts asynchronously on a background thread
+	 * via {@link FontUtils#loadFontFamilyAsync(String, Runnable)}.
+	 * <p>
+	 * Use this to remove font loading from the startup critical path.
+	 * If FlatLaf (or {@link FontUtils#loadFontFamily(String)}) requests a font family
+	 * before it is loaded, then it waits until loading is finished.
+	 */
+	public static void installAsync() {
+		FontUtils.loadFontFamilyAsync( FAMILY, FlatRobotoMonoFont::install );
+	}
+
 	/**
 	 * Creates and registers the fonts for all styles.
 	 * <p>
@@ -31,6 +31,11 @@ import com.formdev.flatlaf.util.FontUtils;
  * FlatRobotoFont.installLazy();
  * }</pre>
  * <p>
+ * For loading in background (without blocking startup) use:
+ * <pre>{@code
+ * FlatRobotoFont.installAsync();
+ * }</pre>
+ * <p>
  * Or load immediately with:
  * <pre>{@code
  * FlatRobotoFont.install();
@@ -153,6 +158,20 @@ public class FlatRobotoFont
 		FontUtils.registerFontFamilyLoader( FAMILY_SEMIBOLD, FlatRobotoFont::installSemiBold );
 	}
 
+	/**
+	 * Loads the fonts asynchronously on a background thread
+	 * via {@link FontUtils#loadFontFamilyAsync(String, Runnable)}.
+	 * <p>
+	 * Use this to remove font loading from the startup critical path.
+	 * If FlatLaf (or {@link FontUtils#loadFontFamily(String)}) requests a font family
+	 * before it is loaded, then it waits until loading is finished.
+	 */
+	public static void installAsync() {
+		FontUtils.loadFontFamilyAsync( FAMILY, FlatRobotoFont::installBasic );
+		FontUtils.loadFontFamilyAsync( FAMILY_LIGHT, FlatRobotoFont::installLight );
+		FontUtils.loadFontFamilyAsync( FAMILY_SEMIBOLD, FlatRobotoFont::installSemiBold );
+	}
+
 	/**
 	 * Creates and registers the fonts for all styles.
 	 * <p>
@@ -19,13 +19,24 @@ package com.formdev.flatlaf.intellijthemes.materialthemeuilite;
 import java.io.IOException;
 import com.formdev.flatlaf.IntelliJTheme;
 import com.formdev.flatlaf.util.LoggingFacade;
+import com.formdev.flatlaf.util.SoftCache;
 
 /**
  * @author Karl Tauber
  */
 class Utils
 {
+	/**
+	 * Loaded themes. The Json structure of a theme is compiled on first use
+	 * and reused when switching back to a theme (e.g. in a theme chooser).
+	 */
+	private static final SoftCache<String, IntelliJTheme> themes = new SoftCache<>();
+
 	static IntelliJTheme loadTheme( String name ) {
+		return themes.computeIfAbsent( name, Utils::loadThemeImpl );
+	}
+
+	private static IntelliJTheme loadThemeImpl( String name ) {
 		try {
 			return new IntelliJTheme( Utils.class.getResourceAsStream(
 				"/com/formdev/flatlaf/intellijthemes/themes/material-theme-ui-lite/" + name ) );
@@ -57,11 +57,15 @@ public class FlatJideLabelUI
 
 			defaults_initialized = true;
 		}
+
+		FlatLaf.registerMnemonicComponent( c );
 	}
 
 	@Override
 	protected void uninstallDefaults( JLabel c ) {
 		super.uninstallDefaults( c );
+
+		FlatLaf.unregisterMnemonicComponent( c );
 		defaults_initialized = false;
 	}
 
@@ -61,12 +61,15 @@ public class FlatBusyLabelUI
 			busyLabel.setBusyPainter( null );
 			busyLabel.setBusy( oldBusy );
 		}
+
+		FlatLaf.registerMnemonicComponent( c );
 	}
 
 	@Override
 	protected void uninstallDefaults( JLabel c ) {
 		super.uninstallDefaults( c );
 
+		FlatLaf.unregisterMnemonicComponent( c );
 		disabledForeground = null;
 	}
 
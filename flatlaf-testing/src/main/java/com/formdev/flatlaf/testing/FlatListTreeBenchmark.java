@@ -0,0 +1,138 @@
+/*
+ * Copyright 2024 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.testing;
+
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+import javax.swing.AbstractListModel;
+import javax.swing.JComponent;
+import javax.swing.JList;
+import javax.swing.JScrollPane;
+import javax.swing.JTree;
+import javax.swing.JViewport;
+import javax.swing.SwingUtilities;
+import javax.swing.tree.DefaultMutableTreeNode;
+import com.formdev.flatlaf.FlatClientProperties;
+import com.formdev.flatlaf.FlatLightLaf;
+
+/**
+ * Measures the cost (time and allocated bytes) of painting a list and a tree
+ * while scrolling through 100,000 rows, where every third row is selected.
+ * <p>
+ * Run with system property {@code java.awt.headless=true} to run without display.
+ *
+ * @author Karl Tauber
+ */
+public class FlatListTreeBenchmark
+{
+	private static final int ROWS = 100_000;
+	private static final int WARMUP_ITERATIONS = 2;
+	private static final int ITERATIONS = 5;
+
+	public static void main( String[] args ) throws Exception {
+		SwingUtilities.invokeAndWait( () -> {
+			FlatLightLaf.setup();
+
+			// list
+			JList<String> list = new JList<>( new AbstractListModel<String>() {
+				@Override public int getSize() { return ROWS; }
+				@Override public String getElementAt( int index ) { return "item " + index; }
+			} );
+			list.setFixedCellHeight( 20 );
+			list.putClientProperty( FlatClientProperties.STYLE, "selectionArc: 6" );
+			for( int i = 0; i < ROWS; i += 3 )
+				list.addSelectionInterval( i, i );
+
+			// tree
+			DefaultMutableTreeNode root = new DefaultMutableTreeNode( "root" );
+			for( int i = 0; i < ROWS; i++ )
+				root.add( new DefaultMutableTreeNode( "node " + i ) );
+			JTree tree = new JTree( root );
+			tree.setRowHeight( 20 );
+			tree.putClientProperty( FlatClientProperties.STYLE, "selectionArc: 6" );
+			int[] selectedRows = new int[(ROWS + 2) / 3];
+			for( int i = 0; i < selectedRows.length; i++ )
+				selectedRows[i] = i * 3;
+			tree.setSelectionRows( selectedRows );
+
+			benchmark( "list", list );
+			benchmark( "tree", tree );
+		} );
+	}
+
+	private static void benchmark( String name, JComponent view ) {
+		JScrollPane scrollPane = new JScrollPane( view );
+		scrollPane.setSize( 400, 600 );
+		scrollPane.doLayout();
+		JViewport viewport = scrollPane.getViewport();
+		viewport.doLayout();
+
+		BufferedImage image = new BufferedImage( viewport.getWidth(), viewport.getHeight(), BufferedImage.TYPE_INT_ARGB );
+
+		for( int i = 0; i < WARMUP_ITERATIONS; i++ )
+			scrollAndPaint( view, viewport, image );
+
+		long totalNanos = 0;
+		long totalBytes = 0;
+		int frames = 0;
+		for( int i = 0; i < ITERATIONS; i++ ) {
+			long startBytes = getAllocatedBytes();
+			long startTime = System.nanoTime();
+			frames = scrollAndPaint( view, viewport, image );
+			totalNanos += System.nanoTime() - startTime;
+			totalBytes += getAllocatedBytes() - startBytes;
+		}
+
+		System.out.printf( "%s  %7.1f us/frame  %7.1f KB/frame  (%d frames)%n", name,
+			totalNanos / 1000. / ITERATIONS / frames,
+			totalBytes / 1024. / ITERATIONS / frames, frames );
+	}
+
+	private static int scrollAndPaint( JComponent view, JViewport viewport, BufferedImage image ) {
+		int frames = 0;
+		int maxY = view.getHeight() - viewport.getHeight();
+		for( int y = 0; y < maxY; y += 20 * 25 ) {
+			viewport.setViewPosition( new Point( 0, y ) );
+
+			Graphics2D g = image.createGraphics();
+			try {
+				Rectangle viewRect = viewport.getViewRect();
+				g.translate( -viewRect.x, -viewRect.y );
+				g.setClip( viewRect );
+				view.paint( g );
+			} finally {
+				g.dispose();
+			}
+			frames++;
+		}
+		return frames;
+	}
+
+	/**
+	 * Returns the number of bytes allocated by the current thread,
+	 * or zero if not supported by the JVM.
+	 */
+	private static long getAllocatedBytes() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		return (bean instanceof com.sun.management.ThreadMXBean)
+			? ((com.sun.management.ThreadMXBean)bean).getThreadAllocatedBytes( Thread.currentThread().getId() )
+			: 0;
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2024 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.testing;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.GridLayout;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+import javax.swing.JButton;
+import javax.swing.JComboBox;
+import javax.swing.JPanel;
+import javax.swing.JSpinner;
+import javax.swing.JTextField;
+import javax.swing.SwingUtilities;
+import com.formdev.flatlaf.FlatLightLaf;
+
+/**
+ * Measures the cost (time and allocated bytes) of painting a form
+ * with 2,000 outlined components (text fields, buttons, combo boxes and spinners)
+ * at different scale factors.
+ * <p>
+ * Run with system property {@code java.awt.headless=true} to run without display.
+ *
+ * @author Karl Tauber
+ */
+public class FlatOutlineBenchmark
+{
+	private static final int COMPONENTS = 2_000;
+	private static final int COLUMNS = 10;
+	private static final int WARMUP_ITERATIONS = 5;
+	private static final int ITERATIONS = 20;
+
+	public static void main( String[] args ) throws Exception {
+		SwingUtilities.invokeAndWait( () -> {
+			FlatLightLaf.setup();
+
+			JPanel form = new JPanel( new GridLayout( 0, COLUMNS, 4, 4 ) );
+			for( int i = 0; i < COMPONENTS; i++ ) {
+				switch( i % 4 ) {
+					case 0: form.add( new JTextField( "text " + i ) ); break;
+					case 1: form.add( new JButton( "button " + i ) ); break;
+					case 2: form.add( new JComboBox<>( new String[] { "item " + i } ) ); break;
+					case 3: form.add( new JSpinner() ); break;
+				}
+			}
+			Dimension size = form.getPreferredSize();
+			form.setSize( size );
+			form.doLayout();
+
+			for( double scale : new double[] { 1, 1.5, 2 } )
+				benchmark( form, scale );
+		} );
+	}
+
+	private static void benchmark( JPanel form, double scale ) {
+		BufferedImage image = new BufferedImage(
+			(int) Math.ceil( form.getWidth() * scale ),
+			(int) Math.ceil( form.getHeight() * scale ),
+			BufferedImage.TYPE_INT_ARGB );
+
+		for( int i = 0; i < WARMUP_ITERATIONS; i++ )
+			paint( form, image, scale );
+
+		long totalNanos = 0;
+		long totalBytes = 0;
+		for( int i = 0; i < ITERATIONS; i++ ) {
+			long startBytes = getAllocatedBytes();
+			long startTime = System.nanoTime();
+			paint( form, image, scale );
+			totalNanos += System.nanoTime() - startTime;
+			totalBytes += getAllocatedBytes() - startBytes;
+		}
+
+		System.out.printf( "scale %.2f  %7.2f ms/frame  %7.1f KB/frame%n", scale,
+			totalNanos / 1_000_000. / ITERATIONS,
+			totalBytes / 1024. / ITERATIONS );
+	}
+
+	private static void paint( JPanel form, BufferedImage image, double scale ) {
+		Graphics2D g = image.createGraphics();
+		try {
+			g.scale( scale, scale );
+			form.paint( g );
+		} finally {
+			g.dispose();
+		}
+	}
+
+	/**
+	 * Returns the number of bytes allocated by the current thread,
+	 * or zero if not supported by the JVM.
+	 */
+	private static long getAllocatedBytes() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		return (bean instanceof com.sun.management.ThreadMXBean)
+			? ((com.sun.management.ThreadMXBean)bean).getThreadAllocatedBytes( Thread.currentThread().getId() )
+			: 0;
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2024 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.testing;
+
+import java.util.function.Supplier;
+import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JComboBox;
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import javax.swing.JScrollPane;
+import javax.swing.JSlider;
+import javax.swing.JTextField;
+import javax.swing.SwingUtilities;
+import com.formdev.flatlaf.FlatClientProperties;
+import com.formdev.flatlaf.FlatLightLaf;
+
+/**
+ * Measures the cost of styling components (client property {@code FlatLaf.style}).
+ * Each iteration creates components, applies a style and removes it again.
+ * <p>
+ * Run with system property {@code java.awt.headless=true} to run without display.
+ *
+ * @author Karl Tauber
+ */
+public class FlatStylingBenchmark
+{
+	private static final int WARMUP_ITERATIONS = 5;
+	private static final int ITERATIONS = 10;
+	private static final int COMPONENTS = 2000;
+
+	public static void main( String[] args ) throws Exception {
+		SwingUtilities.invokeAndWait( () -> {
+			FlatLightLaf.setup();
+
+			benchmark( "JButton", JButton::new,
+				"arc: 10; borderWidth: 2; focusWidth: 2; background: #eee; foreground: #333; margin: 4,8,4,8" );
+			benchmark( "JCheckBox", JCheckBox::new,
+				"icon.arc: 4; icon.focusWidth: 2; icon.borderColor: #888; icon.checkmarkColor: #08f" );
+			benchmark( "JComboBox", JComboBox::new,
+				"arc: 10; buttonStyle: mac; padding: 2,6,2,6; buttonArrowColor: #333; popupBackground: #fff" );
+			benchmark( "JTextField", JTextField::new,
+				"arc: 10; minimumWidth: 100; margin: 2,4,2,4; placeholderForeground: #888; focusedBackground: #fff" );
+			benchmark( "JSlider", JSlider::new,
+				"trackWidth: 3; thumbSize: 14,14; thumbColor: #08f; trackValueColor: #08f" );
+			benchmark( "JLabel", JLabel::new,
+				"foreground: #333; disabledForeground: #888; iconTextGap: 6" );
+			benchmark( "JScrollPane", JScrollPane::new,
+				"arc: 10; showButtons: true; focusWidth: 1; borderWidth: 2; borderColor: #888" );
+		} );
+	}
+
+	private static void benchmark( String name, Supplier<JComponent> factory, String style ) {
+		JComponent[] components = new JComponent[COMPONENTS];
+		for( int i = 0; i < COMPONENTS; i++ )
+			components[i] = factory.get();
+
+		for( int i = 0; i < WARMUP_ITERATIONS; i++ )
+			applyStyle( components, style );
+
+		long totalNanos = 0;
+		for( int i = 0; i < ITERATIONS; i++ )
+			totalNanos += applyStyle( components, style );
+
+		System.out.printf( "%-12s %8.0f ns/component%n", name,
+			(double) totalNanos / ITERATIONS / COMPONENTS );
+	}
+
+	private static long applyStyle( JComponent[] components, String style ) {
+		long startTime = System.nanoTime();
+		for( JComponent c : components ) {
+			c.putClientProperty( FlatClientProperties.STYLE, style );
+			c.putClientProperty( FlatClientProperties.STYLE, null );
+		}
+		return System.nanoTime() - startTime;
+	}
+}
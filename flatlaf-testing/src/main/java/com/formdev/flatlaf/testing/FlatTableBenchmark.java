@@ -0,0 +1,107 @@
+/*
+ * Copyright 2024 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.testing;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.JViewport;
+import javax.swing.SwingUtilities;
+import javax.swing.table.AbstractTableModel;
+import com.formdev.flatlaf.FlatLightLaf;
+
+/**
+ * Measures the cost of painting a table with grid lines while scrolling
+ * through 10,000 rows.
+ * <p>
+ * Run with system property {@code java.awt.headless=true} to run without display.
+ *
+ * @author Karl Tauber
+ */
+public class FlatTableBenchmark
+{
+	private static final int ROWS = 10_000;
+	private static final int COLUMNS = 10;
+	private static final int WARMUP_ITERATIONS = 2;
+	private static final int ITERATIONS = 5;
+
+	public static void main( String[] args ) throws Exception {
+		SwingUtilities.invokeAndWait( () -> {
+			FlatLightLaf.setup();
+
+			JTable table = new JTable( new AbstractTableModel() {
+				@Override public int getRowCount() { return ROWS; }
+				@Override public int getColumnCount() { return COLUMNS; }
+				@Override public Object getValueAt( int row, int column ) { return row + "/" + column; }
+			} );
+			table.setShowGrid( true );
+
+			JScrollPane scrollPane = new JScrollPane( table );
+			scrollPane.setSize( 800, 600 );
+			scrollPane.doLayout();
+			JViewport viewport = scrollPane.getViewport();
+			viewport.doLayout();
+
+			for( double scale : new double[] { 1, 1.5, 2 } )
+				benchmark( table, viewport, scale );
+		} );
+	}
+
+	private static void benchmark( JTable table, JViewport viewport, double scale ) {
+		BufferedImage image = new BufferedImage(
+			(int) Math.ceil( viewport.getWidth() * scale ),
+			(int) Math.ceil( viewport.getHeight() * scale ),
+			BufferedImage.TYPE_INT_ARGB );
+
+		for( int i = 0; i < WARMUP_ITERATIONS; i++ )
+			scrollAndPaint( table, viewport, image, scale );
+
+		long totalNanos = 0;
+		int frames = 0;
+		for( int i = 0; i < ITERATIONS; i++ ) {
+			long startTime = System.nanoTime();
+			frames = scrollAndPaint( table, viewport, image, scale );
+			totalNanos += System.nanoTime() - startTime;
+		}
+
+		System.out.printf( "scale %.2f  %7.1f us/frame  (%d frames)%n", scale,
+			totalNanos / 1000. / ITERATIONS / frames, frames );
+	}
+
+	private static int scrollAndPaint( JTable table, JViewport viewport, BufferedImage image, double scale ) {
+		int frames = 0;
+		int maxY = table.getHeight() - viewport.getHeight();
+		for( int y = 0; y < maxY; y += table.getRowHeight() * 10 ) {
+			viewport.setViewPosition( new java.awt.Point( 0, y ) );
+
+			Graphics2D g = image.createGraphics();
+			try {
+				g.scale( scale, scale );
+				Rectangle viewRect = viewport.getViewRect();
+				g.translate( -viewRect.x, -viewRect.y );
+				g.setClip( viewRect );
+				table.paint( g );
+			} finally {
+				g.dispose();
+			}
+			frames++;
+		}
+		return frames;
+	}
+}
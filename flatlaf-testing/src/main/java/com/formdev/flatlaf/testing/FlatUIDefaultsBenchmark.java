@@ -0,0 +1,90 @@
+/*
+ * Copyright 2024 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.testing;
+
+import java.util.concurrent.CountDownLatch;
+import javax.swing.UIManager;
+import com.formdev.flatlaf.FlatLightLaf;
+
+/**
+ * Measures the throughput of {@link UIManager#getColor(Object)} and
+ * {@link UIManager#getFont(Object)} when invoked from several threads at the same time.
+ * <p>
+ * Run with system property {@code java.awt.headless=true} to run without display.
+ *
+ * @author Karl Tauber
+ */
+public class FlatUIDefaultsBenchmark
+{
+	private static final String[] KEYS = {
+		"Button.background", "Button.foreground", "Component.borderColor", "Component.focusColor",
+		"Label.disabledForeground", "List.selectionBackground", "Table.gridColor", "TextField.background",
+		"Label.font", "Button.font", "Unknown.color", "FileChooser.openButtonText",
+	};
+	private static final int WARMUP_ITERATIONS = 200_000;
+	private static final int ITERATIONS = 2_000_000;
+
+	public static void main( String[] args ) throws Exception {
+		FlatLightLaf.setup();
+
+		int maxThreads = Math.max( 4, Runtime.getRuntime().availableProcessors() );
+		for( int threads = 1; threads <= maxThreads; threads *= 2 )
+			benchmark( threads );
+	}
+
+	private static void benchmark( int threadCount ) throws InterruptedException {
+		CountDownLatch startLatch = new CountDownLatch( 1 );
+		Thread[] threads = new Thread[threadCount];
+		for( int i = 0; i < threadCount; i++ ) {
+			threads[i] = new Thread( () -> {
+				lookup( WARMUP_ITERATIONS );
+				try {
+					startLatch.await();
+				} catch( InterruptedException ex ) {
+					return;
+				}
+				lookup( ITERATIONS );
+			} );
+			threads[i].start();
+		}
+
+		// give threads time to warm up
+		Thread.sleep( 500 );
+
+		long startTime = System.nanoTime();
+		startLatch.countDown();
+		for( Thread thread : threads )
+			thread.join();
+		long totalNanos = System.nanoTime() - startTime;
+
+		System.out.printf( "%2d threads  %8.1f million lookups/s%n", threadCount,
+			(double) ITERATIONS * threadCount / totalNanos * 1000 );
+	}
+
+	private static int lookup( int iterations ) {
+		int hash = 0;
+		for( int i = 0; i < iterations; i++ ) {
+			String key = KEYS[i % KEYS.length];
+			Object value = key.endsWith( "font" )
+				? UIManager.getFont( key )
+				: UIManager.getColor( key );
+			if( value != null )
+				hash += value.hashCode();
+		}
+		return hash;
+	}
+}